@@ -0,0 +1,361 @@
+package com.typhus.common.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.beans.Introspector;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * {@code @GenerateMapper}注解处理器，为每个(来源class, 目标class)生成直接调用getter/setter的BeanMapper实现，
+ * 并写入META-INF/services供运行时的BeanCopier加载<br/>
+ * <p1>属性匹配规则与运行时拷贝器一致：同名属性、来源有getter、目标有setter、getter返回类型可赋值给setter参数类型。
+ * 可赋值按Spring ClassUtils的规则判断，基本类型只允许与自身的包装类型互相赋值，不做基本类型的拓宽；
+ * 同名setter有多个时按Introspector的规则取与目标getter类型一致的一个，无法确定时不生成该mapper，由运行时拷贝器处理。</p1>
+ *
+ * @author typhus-xxj
+ * @version BeanMapperProcessor.java, v 0.1 2026年10月18日 16:50 typhus-xxj Exp $
+ */
+public class BeanMapperProcessor extends AbstractProcessor {
+
+    /**
+     * 触发生成的注解
+     */
+    static final String GENERATE_MAPPER = "com.typhus.common.tools.convert.GenerateMapper";
+
+    /**
+     * 生成类实现的接口
+     */
+    static final String BEAN_MAPPER = "com.typhus.common.tools.convert.BeanMapper";
+
+    /**
+     * ServiceLoader注册文件
+     */
+    private static final String SERVICE_FILE = "META-INF/services/" + BEAN_MAPPER;
+
+    /**
+     * 本次编译生成的mapper全限定名
+     */
+    private final Set<String> generated = new TreeSet<>();
+
+    private Types types;
+
+    private Elements elements;
+
+    private Filer filer;
+
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.types = processingEnv.getTypeUtils();
+        this.elements = processingEnv.getElementUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(GENERATE_MAPPER);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            ProcessorUtils.writeServiceFile(filer, messager, SERVICE_FILE, generated);
+            return false;
+        }
+        TypeElement annotation = elements.getTypeElement(GENERATE_MAPPER);
+        if (annotation == null) {
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (!element.getKind().isClass()) {
+                continue;
+            }
+            TypeElement source = (TypeElement) element;
+            String packageName = elements.getPackageOf(source).getQualifiedName().toString();
+            for (TypeElement target : targets(source)) {
+                String inaccessible = inaccessible(source, packageName);
+                if (inaccessible == null) {
+                    inaccessible = inaccessible(target, packageName);
+                }
+                if (inaccessible != null) {
+                    messager.printMessage(Diagnostic.Kind.WARNING, "mapper " + source.getQualifiedName() + " -> "
+                            + target.getQualifiedName() + " not generated, " + inaccessible
+                            + ", runtime copier will be used", source);
+                    continue;
+                }
+                generate(source, target);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 检查生成的mapper（位于来源class的包中）能否引用该class，外部类链上的每一层都需要可以访问
+     *
+     * @param type        来源或目标class
+     * @param packageName 生成的mapper所在的包
+     * @return 不能访问的原因，可以访问时返回null
+     */
+    private String inaccessible(TypeElement type, String packageName) {
+        boolean samePackage = elements.getPackageOf(type).getQualifiedName().contentEquals(packageName);
+        for (Element current = type; current.getKind() != ElementKind.PACKAGE; current = current.getEnclosingElement()) {
+            Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return current.getSimpleName() + " is private";
+            }
+            if (!samePackage && !modifiers.contains(Modifier.PUBLIC)) {
+                return current.getSimpleName() + " is not public and not in package " + packageName;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 读取注解上的targets
+     *
+     * @param source 被标注的来源class
+     * @return 目标class列表
+     */
+    private List<TypeElement> targets(TypeElement source) {
+        List<TypeElement> result = new ArrayList<>();
+        for (AnnotationMirror mirror : source.getAnnotationMirrors()) {
+            if (!((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(GENERATE_MAPPER)) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                if (!entry.getKey().getSimpleName().contentEquals("targets")) {
+                    continue;
+                }
+                @SuppressWarnings("unchecked")
+                List<? extends AnnotationValue> values = (List<? extends AnnotationValue>) entry.getValue().getValue();
+                for (AnnotationValue value : values) {
+                    result.add((TypeElement) types.asElement((TypeMirror) value.getValue()));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 生成单个mapper
+     *
+     * @param source 来源class
+     * @param target 目标class
+     */
+    private void generate(TypeElement source, TypeElement target) {
+        String packageName = elements.getPackageOf(source).getQualifiedName().toString();
+        String simpleName = ProcessorUtils.flatName(source) + "To" + ProcessorUtils.flatName(target) + "Mapper";
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        String sourceName = types.erasure(source.asType()).toString();
+        String targetName = types.erasure(target.asType()).toString();
+
+        StringBuilder code = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            code.append("package ").append(packageName).append(";\n\n");
+        }
+        code.append("/**\n")
+                .append(" * ").append(sourceName).append(" -> ").append(targetName).append("\n")
+                .append(" * 由BeanMapperProcessor生成，请勿修改\n")
+                .append(" */\n")
+                .append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+                .append("public final class ").append(simpleName).append(" implements ").append(BEAN_MAPPER)
+                .append("<").append(sourceName).append(", ").append(targetName).append("> {\n\n")
+                .append("    @Override\n")
+                .append("    public Class<").append(sourceName).append("> sourceType() {\n")
+                .append("        return ").append(sourceName).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public Class<").append(targetName).append("> targetType() {\n")
+                .append("        return ").append(targetName).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public void map(").append(sourceName).append(" source, ").append(targetName).append(" target) {\n");
+        Map<String, ExecutableElement> getters = getters(source);
+        Map<String, ExecutableElement> targetGetters = getters(target);
+        for (Map.Entry<String, List<ExecutableElement>> entry : setters(target).entrySet()) {
+            ExecutableElement getter = getters.get(entry.getKey());
+            if (getter == null) {
+                continue;
+            }
+            ExecutableElement setter = writeMethod(target, entry.getValue(), targetGetters.get(entry.getKey()));
+            if (setter == null) {
+                messager.printMessage(Diagnostic.Kind.WARNING, "mapper " + source.getQualifiedName() + " -> "
+                        + target.getQualifiedName() + " not generated, setter of property '" + entry.getKey()
+                        + "' is ambiguous, runtime copier will be used", source);
+                return;
+            }
+            TypeMirror valueType = ((ExecutableType) types.asMemberOf((DeclaredType) source.asType(), getter)).getReturnType();
+            TypeMirror parameterType = ((ExecutableType) types.asMemberOf((DeclaredType) target.asType(), setter))
+                    .getParameterTypes().get(0);
+            if (!isAssignable(valueType, parameterType)) {
+                continue;
+            }
+            if (parameterType.getKind().isPrimitive() && !valueType.getKind().isPrimitive()) {
+                // 包装类型 -> 基本类型，null值跳过，与运行时拷贝器一致
+                code.append("        {\n")
+                        .append("            ").append(valueType).append(" value = source.").append(getter.getSimpleName()).append("();\n")
+                        .append("            if (value != null) {\n")
+                        .append("                target.").append(setter.getSimpleName()).append("(value);\n")
+                        .append("            }\n")
+                        .append("        }\n");
+                continue;
+            }
+            code.append("        target.").append(setter.getSimpleName())
+                    .append("(source.").append(getter.getSimpleName()).append("());\n");
+        }
+        code.append("    }\n")
+                .append("}\n");
+
+        try {
+            JavaFileObject file = filer.createSourceFile(qualifiedName, source);
+            try (Writer writer = file.openWriter()) {
+                writer.write(code.toString());
+            }
+            generated.add(qualifiedName);
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "not able to generate " + qualifiedName + ": " + e, source);
+        }
+    }
+
+    /**
+     * 来源class的可读属性，属性名 -> getter
+     *
+     * @param type class
+     * @return getter
+     */
+    private Map<String, ExecutableElement> getters(TypeElement type) {
+        Map<String, ExecutableElement> result = new LinkedHashMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (!isPublicInstance(method) || !method.getParameters().isEmpty()) {
+                continue;
+            }
+            String name = method.getSimpleName().toString();
+            TypeMirror returnType = method.getReturnType();
+            String property = null;
+            if (name.startsWith("get") && name.length() > 3 && returnType.getKind() != TypeKind.VOID) {
+                property = Introspector.decapitalize(name.substring(3));
+            } else if (name.startsWith("is") && name.length() > 2 && returnType.getKind() == TypeKind.BOOLEAN) {
+                property = Introspector.decapitalize(name.substring(2));
+            }
+            if (property == null || "class".equals(property)) {
+                continue;
+            }
+            // is前缀优先，与Introspector一致
+            if (!result.containsKey(property) || name.startsWith("is")) {
+                result.put(property, method);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 目标class的可写属性，属性名 -> setter列表
+     *
+     * @param type class
+     * @return setter
+     */
+    private Map<String, List<ExecutableElement>> setters(TypeElement type) {
+        Map<String, List<ExecutableElement>> result = new LinkedHashMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            String name = method.getSimpleName().toString();
+            if (!isPublicInstance(method) || method.getParameters().size() != 1 || !name.startsWith("set") || name.length() <= 3) {
+                continue;
+            }
+            result.computeIfAbsent(Introspector.decapitalize(name.substring(3)), k -> new ArrayList<>()).add(method);
+        }
+        return result;
+    }
+
+    /**
+     * 属性的setter，与Introspector一致：只有一个时直接使用，多个时取参数类型与目标getter返回类型一致的一个
+     *
+     * @param target  目标class
+     * @param setters 同名setter
+     * @param getter  目标class的同名getter，可以为null
+     * @return setter，无法确定时返回null
+     */
+    private ExecutableElement writeMethod(TypeElement target, List<ExecutableElement> setters, ExecutableElement getter) {
+        if (setters.size() == 1) {
+            return setters.get(0);
+        }
+        if (getter == null) {
+            return null;
+        }
+        TypeMirror propertyType = types.erasure(getter.getReturnType());
+        ExecutableElement result = null;
+        for (ExecutableElement setter : setters) {
+            if (types.isSameType(propertyType, types.erasure(setter.getParameters().get(0).asType()))) {
+                if (result != null) {
+                    return null;
+                }
+                result = setter;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * getter返回类型能否直接赋值给setter参数类型，与运行时的Spring ClassUtils/ResolvableType规则一致：
+     * 基本类型之间只允许相同类型，基本类型与包装类型之间只允许装箱、拆箱为对应类型，不做数值拓宽
+     *
+     * @param valueType     getter返回类型
+     * @param parameterType setter参数类型
+     * @return 是否可以赋值
+     */
+    private boolean isAssignable(TypeMirror valueType, TypeMirror parameterType) {
+        boolean valuePrimitive = valueType.getKind().isPrimitive();
+        boolean parameterPrimitive = parameterType.getKind().isPrimitive();
+        if (valuePrimitive && parameterPrimitive) {
+            return types.isSameType(valueType, parameterType);
+        }
+        if (parameterPrimitive) {
+            return types.isSameType(valueType, types.boxedClass((PrimitiveType) parameterType).asType());
+        }
+        if (valuePrimitive) {
+            return types.isAssignable(types.boxedClass((PrimitiveType) valueType).asType(), parameterType);
+        }
+        return types.isAssignable(valueType, parameterType);
+    }
+
+    private boolean isPublicInstance(ExecutableElement method) {
+        Set<Modifier> modifiers = method.getModifiers();
+        return modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.STATIC);
+    }
+}
@@ -0,0 +1,697 @@
+package com.typhus.common.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * {@code @GenerateJsonCodec}注解处理器，为标注的DTO生成专用的JsonSerializer/JsonDeserializer，
+ * 并写入META-INF/services供运行时的GeneratedJsonCodecs加载<br/>
+ * <p1>属性发现规则与JacksonUtil的json mapper一致：只通过public getter序列化（AUTO_DETECT_FIELDS关闭），
+ * 属性名按jackson的规则由方法名推导，按字典序输出，跳过null值；反序列化通过setter。
+ * jackson在默认配置下会做额外推断的情况（非public setter、集合类型的只读属性、只读属性存在同名字段等）不生成，给出警告。
+ * </p1>
+ *
+ * @author typhus-xxj
+ * @version JsonCodecProcessor.java, v 0.1 2026年10月18日 23:59 typhus-xxj Exp $
+ */
+public class JsonCodecProcessor extends AbstractProcessor {
+
+    /**
+     * 触发生成的注解
+     */
+    static final String GENERATE_JSON_CODEC = "com.typhus.common.tools.jackson.GenerateJsonCodec";
+
+    /**
+     * 生成类实现的接口
+     */
+    static final String JSON_CODEC = "com.typhus.common.tools.jackson.GeneratedJsonCodec";
+
+    /**
+     * 生成代码使用的运行时工具类
+     */
+    private static final String CODECS = "com.typhus.common.tools.jackson.GeneratedJsonCodecs";
+
+    /**
+     * ServiceLoader注册文件
+     */
+    private static final String SERVICE_FILE = "META-INF/services/" + JSON_CODEC;
+
+    /**
+     * 本次编译生成的codec全限定名
+     */
+    private final Set<String> generated = new TreeSet<>();
+
+    private Types types;
+
+    private Elements elements;
+
+    private Filer filer;
+
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.types = processingEnv.getTypeUtils();
+        this.elements = processingEnv.getElementUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(GENERATE_JSON_CODEC);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            ProcessorUtils.writeServiceFile(filer, messager, SERVICE_FILE, generated);
+            return false;
+        }
+        TypeElement annotation = elements.getTypeElement(GENERATE_JSON_CODEC);
+        if (annotation == null) {
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                continue;
+            }
+            TypeElement bean = (TypeElement) element;
+            String unsupported = checkType(bean);
+            Map<String, Property> properties = unsupported == null ? properties(bean) : null;
+            if (unsupported == null && properties == null) {
+                unsupported = "property not supported";
+            }
+            if (unsupported != null) {
+                messager.printMessage(Diagnostic.Kind.WARNING, "json codec not generated, " + unsupported
+                        + ", jackson default serializer will be used", bean);
+                continue;
+            }
+            generate(bean, properties);
+        }
+        return true;
+    }
+
+    /**
+     * bean的一个json属性
+     */
+    private static final class Property {
+
+        ExecutableElement getter;
+
+        /**
+         * getter返回类型
+         */
+        TypeMirror getterType;
+
+        ExecutableElement setter;
+
+        /**
+         * setter参数类型
+         */
+        TypeMirror setterType;
+    }
+
+    /**
+     * 检查class本身是否可以生成
+     *
+     * @param bean 被标注的class
+     * @return 不支持的原因，支持时返回null
+     */
+    private String checkType(TypeElement bean) {
+        if (!bean.getTypeParameters().isEmpty()) {
+            return "generic class";
+        }
+        if (bean.getModifiers().contains(Modifier.ABSTRACT)) {
+            return "abstract class";
+        }
+        for (Element current = bean; current.getKind() != ElementKind.PACKAGE; current = current.getEnclosingElement()) {
+            if (!current.getModifiers().contains(Modifier.PUBLIC)) {
+                return "class is not public";
+            }
+            if (current.getEnclosingElement().getKind() != ElementKind.PACKAGE
+                    && !current.getModifiers().contains(Modifier.STATIC)) {
+                return "inner class is not static";
+            }
+        }
+        boolean noArgConstructor = false;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(bean.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                noArgConstructor = true;
+            }
+        }
+        if (!noArgConstructor) {
+            return "no public no-arg constructor";
+        }
+        // 类型、父类型的类、方法、字段上有jackson注解时，jackson的行为不再是默认规则
+        Deque<TypeMirror> pending = new ArrayDeque<>(Collections.singleton(bean.asType()));
+        Set<String> visited = new HashSet<>();
+        while (!pending.isEmpty()) {
+            TypeElement type = (TypeElement) types.asElement(pending.poll());
+            if (type == null || type.getQualifiedName().contentEquals("java.lang.Object")
+                    || !visited.add(type.getQualifiedName().toString())) {
+                continue;
+            }
+            if (hasJacksonAnnotation(type)) {
+                return "jackson annotation on " + type.getQualifiedName();
+            }
+            for (Element member : type.getEnclosedElements()) {
+                if (hasJacksonAnnotation(member)) {
+                    return "jackson annotation on " + type.getQualifiedName() + "." + member.getSimpleName();
+                }
+                if (member instanceof ExecutableElement) {
+                    for (VariableElement parameter : ((ExecutableElement) member).getParameters()) {
+                        if (hasJacksonAnnotation(parameter)) {
+                            return "jackson annotation on " + type.getQualifiedName() + "." + member.getSimpleName();
+                        }
+                    }
+                }
+            }
+            pending.addAll(types.directSupertypes(type.asType()));
+        }
+        return null;
+    }
+
+    private boolean hasJacksonAnnotation(Element element) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            String name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (name.startsWith("com.fasterxml.jackson.") || "java.beans.Transient".equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 按jackson默认规则收集属性
+     *
+     * @param bean class
+     * @return 属性名 -> 属性，按字典序；存在jackson会额外推断的属性时返回null
+     */
+    private Map<String, Property> properties(TypeElement bean) {
+        DeclaredType beanType = (DeclaredType) bean.asType();
+        Map<String, Property> result = new TreeMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(bean))) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if (modifiers.contains(Modifier.STATIC)
+                    || ((TypeElement) method.getEnclosingElement()).getQualifiedName().contentEquals("java.lang.Object")) {
+                continue;
+            }
+            String name = method.getSimpleName().toString();
+            ExecutableType methodType = (ExecutableType) types.asMemberOf(beanType, method);
+            if (method.getParameters().isEmpty() && modifiers.contains(Modifier.PUBLIC)) {
+                TypeMirror returnType = methodType.getReturnType();
+                String property = null;
+                if (name.startsWith("get") && returnType.getKind() != TypeKind.VOID) {
+                    property = propertyName(name, 3);
+                } else if (name.startsWith("is") && returnType.getKind() == TypeKind.BOOLEAN) {
+                    property = propertyName(name, 2);
+                } else if (name.startsWith("is") && "java.lang.Boolean".equals(returnType.toString())) {
+                    // jackson各版本对Boolean包装类型的is前缀处理不同
+                    return null;
+                }
+                if (property == null) {
+                    continue;
+                }
+                // 同时存在getX和isX时jackson的选择依赖版本
+                Property existing = result.computeIfAbsent(property, k -> new Property());
+                if (existing.getter != null) {
+                    return null;
+                }
+                existing.getter = method;
+                existing.getterType = returnType;
+            } else if (method.getParameters().size() == 1 && name.startsWith("set")) {
+                String property = propertyName(name, 3);
+                if (property == null) {
+                    continue;
+                }
+                // jackson默认可以使用任意可见性的setter，也无法确定重载setter的选择
+                Property existing = result.computeIfAbsent(property, k -> new Property());
+                if (!modifiers.contains(Modifier.PUBLIC) || existing.setter != null) {
+                    return null;
+                }
+                existing.setter = method;
+                existing.setterType = methodType.getParameterTypes().get(0);
+            }
+        }
+        for (Map.Entry<String, Property> entry : result.entrySet()) {
+            Property property = entry.getValue();
+            if (containsTypeVariable(property.getterType) || containsTypeVariable(property.setterType)) {
+                return null;
+            }
+            if (property.setter == null && (readOnlyMutable(property.getterType) || hasField(bean, entry.getKey()))) {
+                // USE_GETTERS_AS_SETTERS、INFER_PROPERTY_MUTATORS下jackson会通过getter或者字段写入
+                return null;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 与jackson默认的命名规则一致：去掉前缀后，开头连续的大写字母都转为小写，getURL -> url
+     *
+     * @param methodName 方法名
+     * @param prefix     前缀长度
+     * @return 属性名，不是合法的属性方法时返回null
+     */
+    private static String propertyName(String methodName, int prefix) {
+        if (methodName.length() <= prefix) {
+            return null;
+        }
+        StringBuilder name = new StringBuilder(methodName.substring(prefix));
+        for (int i = 0; i < name.length(); i++) {
+            char upper = name.charAt(i);
+            char lower = Character.toLowerCase(upper);
+            if (upper == lower) {
+                break;
+            }
+            name.setCharAt(i, lower);
+        }
+        return name.toString();
+    }
+
+    private boolean containsTypeVariable(TypeMirror type) {
+        if (type == null) {
+            return false;
+        }
+        switch (type.getKind()) {
+            case TYPEVAR:
+                return true;
+            case ARRAY:
+                return containsTypeVariable(((ArrayType) type).getComponentType());
+            case DECLARED:
+                for (TypeMirror argument : ((DeclaredType) type).getTypeArguments()) {
+                    if (argument.getKind() != TypeKind.WILDCARD && containsTypeVariable(argument)) {
+                        return true;
+                    }
+                    if (argument.getKind() == TypeKind.WILDCARD) {
+                        WildcardType wildcard = (WildcardType) argument;
+                        if (containsTypeVariable(wildcard.getExtendsBound()) || containsTypeVariable(wildcard.getSuperBound())) {
+                            return true;
+                        }
+                    }
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 集合、map类型的只读属性
+     */
+    private boolean readOnlyMutable(TypeMirror type) {
+        TypeMirror collection = types.erasure(elements.getTypeElement("java.util.Collection").asType());
+        TypeMirror map = types.erasure(elements.getTypeElement("java.util.Map").asType());
+        TypeMirror erased = types.erasure(type);
+        return types.isAssignable(erased, collection) || types.isAssignable(erased, map);
+    }
+
+    private boolean hasField(TypeElement bean, String name) {
+        for (TypeElement type = bean; type != null; type = (TypeElement) types.asElement(type.getSuperclass())) {
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC) && field.getSimpleName().contentEquals(name)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 生成codec
+     *
+     * @param bean       class
+     * @param properties 属性
+     */
+    private void generate(TypeElement bean, Map<String, Property> properties) {
+        String packageName = elements.getPackageOf(bean).getQualifiedName().toString();
+        String simpleName = ProcessorUtils.flatName(bean) + "JsonCodec";
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        String beanName = types.erasure(bean.asType()).toString();
+
+        StringBuilder code = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            code.append("package ").append(packageName).append(";\n\n");
+        }
+        code.append("import com.fasterxml.jackson.core.JsonGenerator;\n")
+                .append("import com.fasterxml.jackson.core.JsonParser;\n")
+                .append("import com.fasterxml.jackson.core.JsonToken;\n")
+                .append("import com.fasterxml.jackson.core.io.SerializedString;\n")
+                .append("import com.fasterxml.jackson.databind.DeserializationContext;\n")
+                .append("import com.fasterxml.jackson.databind.JsonDeserializer;\n")
+                .append("import com.fasterxml.jackson.databind.JsonMappingException;\n")
+                .append("import com.fasterxml.jackson.databind.JsonSerializer;\n")
+                .append("import com.fasterxml.jackson.databind.SerializerProvider;\n")
+                .append("import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;\n")
+                .append("import com.fasterxml.jackson.databind.deser.std.StdDeserializer;\n")
+                .append("import com.fasterxml.jackson.databind.jsontype.TypeSerializer;\n")
+                .append("import com.fasterxml.jackson.databind.ser.std.StdSerializer;\n")
+                .append("import com.fasterxml.jackson.databind.util.ClassUtil;\n\n")
+                .append("import java.io.IOException;\n\n")
+                .append("/**\n")
+                .append(" * ").append(beanName).append(" json序列化/反序列化\n")
+                .append(" * 由JsonCodecProcessor生成，请勿修改\n")
+                .append(" */\n")
+                .append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+                .append("public final class ").append(simpleName).append(" implements ").append(JSON_CODEC)
+                .append("<").append(beanName).append("> {\n\n")
+                .append("    @Override\n")
+                .append("    public Class<").append(beanName).append("> type() {\n")
+                .append("        return ").append(beanName).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public JsonSerializer<").append(beanName).append("> serializer() {\n")
+                .append("        return new Serializer();\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public JsonDeserializer<").append(beanName).append("> deserializer() {\n")
+                .append("        return new Deserializer();\n")
+                .append("    }\n\n");
+        serializer(code, bean, beanName, properties);
+        code.append("\n");
+        deserializer(code, beanName, properties);
+        code.append("}\n");
+
+        try {
+            JavaFileObject file = filer.createSourceFile(qualifiedName, bean);
+            try (Writer writer = file.openWriter()) {
+                writer.write(code.toString());
+            }
+            generated.add(qualifiedName);
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "not able to generate " + qualifiedName + ": " + e, bean);
+        }
+    }
+
+    /**
+     * 生成序列化器：按字典序逐个写属性，null跳过，基本类型、包装类型、String直接写，其他类型交给jackson
+     */
+    private void serializer(StringBuilder code, TypeElement bean, String beanName, Map<String, Property> properties) {
+        code.append("    public static final class Serializer extends StdSerializer<").append(beanName).append("> {\n\n")
+                .append("        private static final long serialVersionUID = 1L;\n\n");
+        int index = 0;
+        for (Map.Entry<String, Property> entry : properties.entrySet()) {
+            if (entry.getValue().getter != null) {
+                code.append("        private static final SerializedString NAME_").append(index).append(" = new SerializedString(\"")
+                        .append(entry.getKey()).append("\");\n\n");
+            }
+            index++;
+        }
+        code.append("        public Serializer() {\n")
+                .append("            super(").append(beanName).append(".class);\n")
+                .append("        }\n\n")
+                .append("        @Override\n")
+                .append("        public void serialize(").append(beanName)
+                .append(" value, JsonGenerator gen, SerializerProvider provider) throws IOException {\n")
+                .append("            gen.writeStartObject(value);\n")
+                .append("            writeFields(value, gen, provider);\n")
+                .append("            gen.writeEndObject();\n")
+                .append("        }\n\n")
+                .append("        @Override\n")
+                .append("        public void serializeWithType(").append(beanName)
+                .append(" value, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer) throws IOException {\n")
+                .append("            gen.setCurrentValue(value);\n")
+                .append("            com.fasterxml.jackson.core.type.WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));\n")
+                .append("            writeFields(value, gen, provider);\n")
+                .append("            typeSer.writeTypeSuffix(gen, typeId);\n")
+                .append("        }\n\n")
+                .append("        private void writeFields(").append(beanName)
+                .append(" value, JsonGenerator gen, SerializerProvider provider) throws IOException {\n");
+        index = 0;
+        for (Property property : properties.values()) {
+            if (property.getter != null) {
+                writeField(code, bean, property, index);
+            }
+            index++;
+        }
+        code.append("        }\n")
+                .append("    }\n");
+    }
+
+    private void writeField(StringBuilder code, TypeElement bean, Property property, int index) {
+        TypeMirror type = property.getterType;
+        String getter = "value." + property.getter.getSimpleName() + "()";
+        String name = "NAME_" + index;
+        if (type.getKind().isPrimitive()) {
+            code.append("            gen.writeFieldName(").append(name).append(");\n");
+            switch (type.getKind()) {
+                case BOOLEAN:
+                    code.append("            gen.writeBoolean(").append(getter).append(");\n");
+                    break;
+                case BYTE:
+                    code.append("            gen.writeNumber((int) ").append(getter).append(");\n");
+                    break;
+                case CHAR:
+                    code.append("            provider.defaultSerializeValue(").append(getter).append(", gen);\n");
+                    break;
+                default:
+                    code.append("            gen.writeNumber(").append(getter).append(");\n");
+            }
+            return;
+        }
+        String write;
+        switch (type.toString()) {
+            case "java.lang.String":
+                write = "gen.writeString(v" + index + ")";
+                break;
+            case "java.lang.Boolean":
+                write = "gen.writeBoolean(v" + index + ".booleanValue())";
+                break;
+            case "java.lang.Integer":
+            case "java.lang.Byte":
+                write = "gen.writeNumber(v" + index + ".intValue())";
+                break;
+            case "java.lang.Long":
+                write = "gen.writeNumber(v" + index + ".longValue())";
+                break;
+            case "java.lang.Short":
+                write = "gen.writeNumber(v" + index + ".shortValue())";
+                break;
+            case "java.lang.Double":
+                write = "gen.writeNumber(v" + index + ".doubleValue())";
+                break;
+            case "java.lang.Float":
+                write = "gen.writeNumber(v" + index + ".floatValue())";
+                break;
+            default:
+                write = null;
+        }
+        code.append("            ").append(type).append(" v").append(index).append(" = ").append(getter).append(";\n")
+                .append("            if (v").append(index).append(" != null) {\n");
+        if (write == null && types.isAssignable(types.erasure(bean.asType()), types.erasure(type))) {
+            code.append("                ").append(CODECS).append(".checkSelfReference(value, v").append(index)
+                    .append(", gen, provider);\n");
+        }
+        code.append("                gen.writeFieldName(").append(name).append(");\n")
+                .append("                ").append(write == null ? "provider.defaultSerializeValue(v" + index + ", gen)" : write)
+                .append(";\n")
+                .append("            }\n");
+    }
+
+    /**
+     * 生成反序列化器：按属性名switch直接调用setter，String、int、long、boolean、double在使用jackson标准反序列化器时直接读取token，
+     * 其他类型以及非对象的输入交给jackson
+     */
+    private void deserializer(StringBuilder code, String beanName, Map<String, Property> properties) {
+        code.append("    public static final class Deserializer extends StdDeserializer<").append(beanName)
+                .append("> implements ResolvableDeserializer {\n\n")
+                .append("        private static final long serialVersionUID = 1L;\n\n");
+        int index = 0;
+        for (Property property : properties.values()) {
+            if (property.setter != null) {
+                code.append("        private transient JsonDeserializer<Object> deser").append(index).append(";\n\n");
+                if (hasFastPath(property.setterType)) {
+                    code.append("        private transient boolean std").append(index).append(";\n\n");
+                }
+            }
+            index++;
+        }
+        code.append("        /**\n")
+                .append("         * 非对象输入（数组、字符串等）交给jackson默认的BeanDeserializer\n")
+                .append("         */\n")
+                .append("        private transient volatile JsonDeserializer<Object> fallback;\n\n")
+                .append("        public Deserializer() {\n")
+                .append("            super(").append(beanName).append(".class);\n")
+                .append("        }\n\n")
+                .append("        @Override\n")
+                .append("        public void resolve(DeserializationContext ctxt) throws JsonMappingException {\n");
+        index = 0;
+        for (Property property : properties.values()) {
+            if (property.setter != null) {
+                code.append("            deser").append(index).append(" = ctxt.findRootValueDeserializer(")
+                        .append(javaType(property.setterType)).append(");\n");
+                if (hasFastPath(property.setterType)) {
+                    code.append("            std").append(index).append(" = ClassUtil.isJacksonStdImpl(deser").append(index)
+                            .append(");\n");
+                }
+            }
+            index++;
+        }
+        code.append("        }\n\n")
+                .append("        @Override\n")
+                .append("        public ").append(beanName).append(" deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {\n")
+                .append("            if (!isObject(p)) {\n")
+                .append("                return (").append(beanName).append(") fallback(ctxt).deserialize(p, ctxt);\n")
+                .append("            }\n")
+                .append("            ").append(beanName).append(" bean = new ").append(beanName).append("();\n")
+                .append("            readFields(p, ctxt, bean);\n")
+                .append("            return bean;\n")
+                .append("        }\n\n")
+                .append("        @Override\n")
+                .append("        public ").append(beanName).append(" deserialize(JsonParser p, DeserializationContext ctxt, ")
+                .append(beanName).append(" bean) throws IOException {\n")
+                .append("            if (!isObject(p)) {\n")
+                .append("                return (").append(beanName).append(") fallback(ctxt).deserialize(p, ctxt, bean);\n")
+                .append("            }\n")
+                .append("            readFields(p, ctxt, bean);\n")
+                .append("            return bean;\n")
+                .append("        }\n\n")
+                .append("        @Override\n")
+                .append("        public boolean isCachable() {\n")
+                .append("            return true;\n")
+                .append("        }\n\n")
+                .append("        private static boolean isObject(JsonParser p) {\n")
+                .append("            return p.hasToken(JsonToken.START_OBJECT) || p.hasToken(JsonToken.FIELD_NAME) || p.hasToken(JsonToken.END_OBJECT);\n")
+                .append("        }\n\n")
+                .append("        private JsonDeserializer<Object> fallback(DeserializationContext ctxt) throws IOException {\n")
+                .append("            JsonDeserializer<Object> deserializer = fallback;\n")
+                .append("            if (deserializer == null) {\n")
+                .append("                deserializer = ").append(CODECS).append(".beanDeserializer(ctxt, _valueClass);\n")
+                .append("                fallback = deserializer;\n")
+                .append("            }\n")
+                .append("            return deserializer;\n")
+                .append("        }\n\n")
+                .append("        private void readFields(JsonParser p, DeserializationContext ctxt, ").append(beanName)
+                .append(" bean) throws IOException {\n")
+                .append("            JsonToken t = p.currentToken();\n")
+                .append("            if (t == JsonToken.START_OBJECT) {\n")
+                .append("                t = p.nextToken();\n")
+                .append("            }\n")
+                .append("            for (; t == JsonToken.FIELD_NAME; t = p.nextToken()) {\n")
+                .append("                String name = p.currentName();\n")
+                .append("                p.nextToken();\n")
+                .append("                switch (name) {\n");
+        index = 0;
+        for (Map.Entry<String, Property> entry : properties.entrySet()) {
+            Property property = entry.getValue();
+            code.append("                    case \"").append(entry.getKey()).append("\":\n");
+            if (property.setter == null) {
+                // 只读属性与jackson一致，忽略
+                code.append("                        p.skipChildren();\n");
+            } else {
+                code.append("                        bean.").append(property.setter.getSimpleName()).append("(")
+                        .append(readValue(property.setterType, index)).append(");\n");
+            }
+            code.append("                        break;\n");
+            index++;
+        }
+        code.append("                    default:\n")
+                .append("                        ctxt.handleUnknownProperty(p, this, bean, name);\n")
+                .append("                }\n")
+                .append("            }\n")
+                .append("        }\n")
+                .append("    }\n");
+    }
+
+    /**
+     * 构造属性类型JavaType的表达式
+     */
+    private String javaType(TypeMirror type) {
+        String erased = types.erasure(type).toString();
+        if (erased.equals(type.toString())) {
+            return "ctxt.constructType(" + erased + ".class)";
+        }
+        return "ctxt.getTypeFactory().constructType(new com.fasterxml.jackson.core.type.TypeReference<" + type + ">() {\n"
+                + "            })";
+    }
+
+    private String boxedName(TypeMirror type) {
+        return type.getKind().isPrimitive() ? types.boxedClass((PrimitiveType) type).getQualifiedName().toString()
+                : type.toString();
+    }
+
+    /**
+     * 是否可以直接从token读取，与{@link #readValue(TypeMirror, int)}对应
+     */
+    private boolean hasFastPath(TypeMirror type) {
+        switch (boxedName(type)) {
+            case "java.lang.String":
+            case "java.lang.Integer":
+            case "java.lang.Long":
+            case "java.lang.Double":
+            case "java.lang.Boolean":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 读取属性值的表达式
+     */
+    private String readValue(TypeMirror type, int index) {
+        String boxed = boxedName(type);
+        String value = "(" + boxed + ") " + CODECS + ".value(deser" + index + ", p, ctxt)";
+        String std = "std" + index;
+        boolean primitive = type.getKind().isPrimitive();
+        switch (boxed) {
+            case "java.lang.String":
+                return "p.hasToken(JsonToken.VALUE_STRING) && " + std + " ? p.getText() : " + value;
+            case "java.lang.Integer":
+                return "p.hasToken(JsonToken.VALUE_NUMBER_INT) && " + std + " ? "
+                        + (primitive ? "p.getIntValue()" : "Integer.valueOf(p.getIntValue())") + " : " + value;
+            case "java.lang.Long":
+                return "p.hasToken(JsonToken.VALUE_NUMBER_INT) && " + std + " ? "
+                        + (primitive ? "p.getLongValue()" : "Long.valueOf(p.getLongValue())") + " : " + value;
+            case "java.lang.Double":
+                return "p.hasToken(JsonToken.VALUE_NUMBER_FLOAT) && " + std + " ? "
+                        + (primitive ? "p.getDoubleValue()" : "Double.valueOf(p.getDoubleValue())") + " : " + value;
+            case "java.lang.Boolean":
+                return "(p.hasToken(JsonToken.VALUE_TRUE) || p.hasToken(JsonToken.VALUE_FALSE)) && " + std + " ? "
+                        + (primitive ? "p.hasToken(JsonToken.VALUE_TRUE)" : "Boolean.valueOf(p.hasToken(JsonToken.VALUE_TRUE))")
+                        + " : " + value;
+            default:
+                return value;
+        }
+    }
+}
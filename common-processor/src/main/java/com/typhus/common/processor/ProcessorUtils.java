@@ -0,0 +1,87 @@
+package com.typhus.common.processor;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 注解处理器共用的方法
+ *
+ * @author typhus-xxj
+ * @version ProcessorUtils.java, v 0.1 2026年10月18日 23:59 typhus-xxj Exp $
+ */
+final class ProcessorUtils {
+
+    private ProcessorUtils() {
+    }
+
+    /**
+     * 内部类名以_连接外部类名
+     *
+     * @param type class
+     * @return 扁平化的类名
+     */
+    static String flatName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element enclosing = type.getEnclosingElement();
+        while (enclosing != null && enclosing.getKind() != ElementKind.PACKAGE) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.toString();
+    }
+
+    /**
+     * 写入ServiceLoader注册文件，合并之前编译生成的条目
+     *
+     * @param filer       Filer
+     * @param messager    Messager
+     * @param serviceFile 注册文件路径
+     * @param generated   本次编译生成的实现类全限定名
+     */
+    static void writeServiceFile(Filer filer, Messager messager, String serviceFile, Set<String> generated) {
+        if (generated.isEmpty()) {
+            return;
+        }
+        Set<String> entries = new TreeSet<>(generated);
+        try {
+            FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", serviceFile);
+            try (Reader reader = new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8);
+                 BufferedReader lines = new BufferedReader(reader)) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    if (!line.trim().isEmpty()) {
+                        entries.add(line.trim());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // 之前没有注册文件
+        }
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", serviceFile);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String entry : entries) {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "not able to write " + serviceFile + ": " + e);
+        }
+    }
+}
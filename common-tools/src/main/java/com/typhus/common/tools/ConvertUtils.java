@@ -1,16 +1,32 @@
 package com.typhus.common.tools;
 
+import com.typhus.common.tools.convert.BeanCopier;
+import com.typhus.common.tools.convert.ConvertIterator;
+import com.typhus.common.tools.convert.CopyProfile;
+import com.typhus.common.tools.convert.DeepCopier;
+import com.typhus.common.tools.convert.Instantiators;
+import com.typhus.common.tools.convert.MapCopier;
+import com.typhus.common.tools.convert.ParallelConvert;
+import com.typhus.common.tools.convert.TargetPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.BeanUtils;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * bean转换
@@ -26,21 +42,21 @@ public class ConvertUtils {
     public static final Logger logger = LoggerFactory.getLogger(ConvertUtils.class);
 
     /**
-     * 采用Spring BeanUtils#copyProperties方式 将source转化为target，浅拷贝
+     * 采用缓存的BeanCopier方式（匹配规则同Spring BeanUtils#copyProperties）将source转化为target，浅拷贝
      *
      * @param source 转化来源对象
      * @param target 转化目标对象
      * @param <F>    转化来源对象泛型
      * @param <T>    转来后对象的泛型
      * @return 转换后的对象target
-     * @see org.springframework.beans.BeanUtils#copyProperties(java.lang.Object, java.lang.Object)
+     * @see com.typhus.common.tools.convert.BeanCopier#copyProperties(java.lang.Object, java.lang.Object)
      */
     public static <F, T> T convert(F source, T target) {
         return convertOrigin(source, target, null);
     }
 
     /**
-     * 采用Spring BeanUtils#copyProperties方式 将source转化为target，浅拷贝
+     * 采用缓存的BeanCopier方式（匹配规则同Spring BeanUtils#copyProperties）将source转化为target，浅拷贝
      *
      * @param source   转化来源对象
      * @param target   转化目标对象
@@ -48,13 +64,13 @@ public class ConvertUtils {
      * @param <F>      转化来源对象泛型
      * @param <T>      转来后对象的泛型
      * @return 转换后的对象target
-     * @see org.springframework.beans.BeanUtils#copyProperties(java.lang.Object, java.lang.Object)
+     * @see com.typhus.common.tools.convert.BeanCopier#copyProperties(java.lang.Object, java.lang.Object)
      */
     public static <F, T> T convertOrigin(F source, T target, BiConsumer<F, T> callBack) {
         if (null == source || null == target) {
             return null;
         }
-        BeanUtils.copyProperties(source, target);
+        BeanCopier.copyProperties(source, target);
         if (callBack != null) {
             // 回调
             callBack.accept(source, target);
@@ -63,7 +79,7 @@ public class ConvertUtils {
     }
 
     /**
-     * 采用Spring BeanUtils#copyProperties方式 将source转化为target，浅拷贝
+     * 采用缓存的BeanCopier方式（匹配规则同Spring BeanUtils#copyProperties）将source转化为target，浅拷贝
      * 如果 targetSupplier为null会抛出{@link NullPointerException}
      *
      * @param source         转化来源对象
@@ -71,14 +87,14 @@ public class ConvertUtils {
      * @param <F>            转化来源对象泛型
      * @param <T>            转来后对象的泛型
      * @return 转换后的对象target
-     * @see org.springframework.beans.BeanUtils#copyProperties(java.lang.Object, java.lang.Object)
+     * @see com.typhus.common.tools.convert.BeanCopier#copyProperties(java.lang.Object, java.lang.Object)
      */
     public static <F, T> T convert(F source, Supplier<T> targetSupplier) {
         return convert(source, targetSupplier, null);
     }
 
     /**
-     * 采用Spring BeanUtils#copyProperties方式 将source转化为target，浅拷贝
+     * 采用缓存的BeanCopier方式（匹配规则同Spring BeanUtils#copyProperties）将source转化为target，浅拷贝
      * 如果 targetSupplier为null会抛出{@link NullPointerException}
      *
      * @param source         转化来源对象
@@ -87,14 +103,14 @@ public class ConvertUtils {
      * @param <F>            转化来源对象泛型
      * @param <T>            转来后对象的泛型
      * @return 转换后的对象target
-     * @see org.springframework.beans.BeanUtils#copyProperties(java.lang.Object, java.lang.Object)
+     * @see com.typhus.common.tools.convert.BeanCopier#copyProperties(java.lang.Object, java.lang.Object)
      */
     public static <F, T> T convert(F source, Supplier<T> targetSupplier, BiConsumer<F, T> callBack) {
         if (null == source) {
             return null;
         }
         T target = Objects.requireNonNull(targetSupplier).get();
-        BeanUtils.copyProperties(source, target);
+        BeanCopier.copyProperties(source, target);
         if (callBack != null) {
             // 回调
             callBack.accept(source, target);
@@ -103,21 +119,21 @@ public class ConvertUtils {
     }
 
     /**
-     * 采用Spring BeanUtils#copyProperties方式将List<F>转化为List<T>，浅拷贝
+     * 采用缓存的BeanCopier方式（匹配规则同Spring BeanUtils#copyProperties）将List<F>转化为List<T>，浅拷贝
      *
      * @param fromList 转化来源list
      * @param type     转化后的Class
      * @param <F>      转化来源对象泛型
      * @param <T>      转化后的对象泛型
      * @return 转化后的list
-     * @see org.springframework.beans.BeanUtils#copyProperties(java.lang.Object, java.lang.Object)
+     * @see com.typhus.common.tools.convert.BeanCopier#copyProperties(java.lang.Object, java.lang.Object)
      */
     public static <F, T> List<T> convert(List<F> fromList, final Class<T> type) {
         return convert(fromList, type, null);
     }
 
     /**
-     * 采用Spring BeanUtils#copyProperties方式将List<F>转化为List<T>，浅拷贝
+     * 采用缓存的BeanCopier方式（匹配规则同Spring BeanUtils#copyProperties）将List<F>转化为List<T>，浅拷贝
      *
      * @param fromList 转化来源list
      * @param type     转化后的Class
@@ -125,17 +141,31 @@ public class ConvertUtils {
      * @param <F>      转化来源对象泛型
      * @param <T>      转化后的对象泛型
      * @return 转化后的list
-     * @see org.springframework.beans.BeanUtils#copyProperties(java.lang.Object, java.lang.Object)
+     * @see com.typhus.common.tools.convert.BeanCopier#copyProperties(java.lang.Object, java.lang.Object)
      */
     public static <F, T> List<T> convert(List<F> fromList, final Class<T> type, BiConsumer<F, T> callBack) {
         if (fromList == null || fromList.isEmpty()) {
             return Collections.emptyList();
         }
-        return convert(fromList, f -> {
+        return convert(fromList, copyFunction(type, callBack));
+    }
+
+    /**
+     * 生成"创建type对象 -> 拷贝属性 -> 回调"的转换函数，转换失败时记录日志并抛出RuntimeException
+     *
+     * @param type     转化后的Class
+     * @param callBack 转换后的回调
+     * @param <F>      转化来源对象泛型
+     * @param <T>      转化后的对象泛型
+     * @return F转化成T的具体实现
+     */
+    private static <F, T> Function<F, T> copyFunction(final Class<T> type, BiConsumer<F, T> callBack) {
+        Supplier<T> instantiator = Instantiators.of(type);
+        return f -> {
             T t;
             try {
-                t = type.getDeclaredConstructor().newInstance();
-                BeanUtils.copyProperties(f, t);
+                t = instantiator.get();
+                BeanCopier.copyProperties(f, t);
                 if (callBack != null) {
                     // 回调
                     callBack.accept(f, t);
@@ -145,9 +175,586 @@ public class ConvertUtils {
                 throw new RuntimeException(e);
             }
             return t;
+        };
+    }
+
+    /**
+     * 并行转换大list，使用{@link ForkJoinPool#commonPool()}
+     *
+     * @param fromList 转化来源list
+     * @param type     转化后的Class
+     * @param callBack 转换后的回调
+     * @param <F>      转化来源对象泛型
+     * @param <T>      转化后的对象泛型
+     * @return 转化后的list，顺序与fromList一致
+     * @see ConvertUtils#convertParallel(List, Function, ForkJoinPool)
+     */
+    public static <F, T> List<T> convertParallel(List<F> fromList, final Class<T> type, BiConsumer<F, T> callBack) {
+        return convertParallel(fromList, type, callBack, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 并行转换大list
+     *
+     * @param fromList 转化来源list
+     * @param type     转化后的Class
+     * @param callBack 转换后的回调
+     * @param pool     执行转换的ForkJoinPool
+     * @param <F>      转化来源对象泛型
+     * @param <T>      转化后的对象泛型
+     * @return 转化后的list，顺序与fromList一致
+     * @see ConvertUtils#convertParallel(List, Function, ForkJoinPool)
+     */
+    public static <F, T> List<T> convertParallel(List<F> fromList, final Class<T> type, BiConsumer<F, T> callBack,
+                                                 ForkJoinPool pool) {
+        if (fromList == null || fromList.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return convertParallel(fromList, copyFunction(type, callBack), pool);
+    }
+
+    /**
+     * 采用自定义转换方式并行将List<F>转化为List<T>，使用{@link ForkJoinPool#commonPool()}
+     *
+     * @param fromList 转化来源list
+     * @param function F转化成T的具体实现
+     * @param <F>      转化来源对象泛型
+     * @param <T>      转化后的对象泛型
+     * @return 转化后的list，顺序与fromList一致
+     * @see ConvertUtils#convertParallel(List, Function, ForkJoinPool)
+     */
+    public static <F, T> List<T> convertParallel(List<F> fromList, Function<F, T> function) {
+        return convertParallel(fromList, function, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 采用自定义转换方式并行将List<F>转化为List<T><br/>
+     * <p1>fromList大小小于{@link ParallelConvert#PARALLEL_THRESHOLD}时直接顺序转换；否则按块拆分到pool上并行转换，
+     * 结果写入预先分配大小的数组，顺序与fromList一致。function抛出异常时整批失败，抛出下标最小的元素的异常。
+     * </p1>
+     *
+     * @param fromList 转化来源list
+     * @param function F转化成T的具体实现
+     * @param pool     执行转换的ForkJoinPool
+     * @param <F>      转化来源对象泛型
+     * @param <T>      转化后的对象泛型
+     * @return 转化后的list，顺序与fromList一致
+     */
+    public static <F, T> List<T> convertParallel(List<F> fromList, Function<F, T> function, ForkJoinPool pool) {
+        if (fromList == null || fromList.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (fromList.size() < ParallelConvert.PARALLEL_THRESHOLD) {
+            return convert(fromList, function);
+        }
+        return ParallelConvert.convert(fromList, function, pool);
+    }
+
+    /**
+     * 惰性转换Stream<F>为Stream<T>，只有消费返回的Stream时才逐个转换，浅拷贝
+     *
+     * @param fromStream 转化来源stream
+     * @param type       转化后的Class
+     * @param <F>        转化来源对象泛型
+     * @param <T>        转化后的对象泛型
+     * @return 惰性转换的stream，跳过来源中的null元素
+     */
+    public static <F, T> Stream<T> convert(Stream<F> fromStream, final Class<T> type) {
+        return convert(fromStream, type, null);
+    }
+
+    /**
+     * 惰性转换Stream<F>为Stream<T>，只有消费返回的Stream时才逐个转换，浅拷贝
+     *
+     * @param fromStream 转化来源stream
+     * @param type       转化后的Class
+     * @param callBack   转换后的回调
+     * @param <F>        转化来源对象泛型
+     * @param <T>        转化后的对象泛型
+     * @return 惰性转换的stream，跳过来源中的null元素
+     */
+    public static <F, T> Stream<T> convert(Stream<F> fromStream, final Class<T> type, BiConsumer<F, T> callBack) {
+        return convert(fromStream, copyFunction(type, callBack));
+    }
+
+    /**
+     * 采用自定义转换方式惰性转换Stream<F>为Stream<T>
+     *
+     * @param fromStream 转化来源stream
+     * @param function   F转化成T的具体实现
+     * @param <F>        转化来源对象泛型
+     * @param <T>        转化后的对象泛型
+     * @return 惰性转换的stream，跳过来源中的null元素
+     */
+    public static <F, T> Stream<T> convert(Stream<F> fromStream, Function<F, T> function) {
+        if (fromStream == null) {
+            return Stream.empty();
+        }
+        return fromStream.filter(Objects::nonNull).map(function);
+    }
+
+    /**
+     * 惰性转换Spliterator<F>为Stream<T>，只有消费返回的Stream时才逐个转换，浅拷贝
+     *
+     * @param fromSpliterator 转化来源spliterator
+     * @param type            转化后的Class
+     * @param callBack        转换后的回调
+     * @param <F>             转化来源对象泛型
+     * @param <T>             转化后的对象泛型
+     * @return 惰性转换的stream，跳过来源中的null元素
+     */
+    public static <F, T> Stream<T> convert(Spliterator<F> fromSpliterator, final Class<T> type, BiConsumer<F, T> callBack) {
+        return convert(fromSpliterator, copyFunction(type, callBack));
+    }
+
+    /**
+     * 采用自定义转换方式惰性转换Spliterator<F>为Stream<T>
+     *
+     * @param fromSpliterator 转化来源spliterator
+     * @param function        F转化成T的具体实现
+     * @param <F>             转化来源对象泛型
+     * @param <T>             转化后的对象泛型
+     * @return 惰性转换的stream，跳过来源中的null元素
+     */
+    public static <F, T> Stream<T> convert(Spliterator<F> fromSpliterator, Function<F, T> function) {
+        if (fromSpliterator == null) {
+            return Stream.empty();
+        }
+        return convert(StreamSupport.stream(fromSpliterator, false), function);
+    }
+
+    /**
+     * 惰性转换Iterator<F>为Iterator<T>，每次next时才转换一个元素，浅拷贝
+     *
+     * @param fromIterator 转化来源iterator
+     * @param type         转化后的Class
+     * @param <F>          转化来源对象泛型
+     * @param <T>          转化后的对象泛型
+     * @return 惰性转换的iterator，跳过来源中的null元素
+     */
+    public static <F, T> Iterator<T> convert(Iterator<F> fromIterator, final Class<T> type) {
+        return convert(fromIterator, type, null);
+    }
+
+    /**
+     * 惰性转换Iterator<F>为Iterator<T>，每次next时才转换一个元素，浅拷贝
+     *
+     * @param fromIterator 转化来源iterator
+     * @param type         转化后的Class
+     * @param callBack     转换后的回调
+     * @param <F>          转化来源对象泛型
+     * @param <T>          转化后的对象泛型
+     * @return 惰性转换的iterator，跳过来源中的null元素
+     */
+    public static <F, T> Iterator<T> convert(Iterator<F> fromIterator, final Class<T> type, BiConsumer<F, T> callBack) {
+        return convert(fromIterator, copyFunction(type, callBack));
+    }
+
+    /**
+     * 采用自定义转换方式惰性转换Iterator<F>为Iterator<T>
+     *
+     * @param fromIterator 转化来源iterator
+     * @param function     F转化成T的具体实现
+     * @param <F>          转化来源对象泛型
+     * @param <T>          转化后的对象泛型
+     * @return 惰性转换的iterator，跳过来源中的null元素
+     */
+    public static <F, T> Iterator<T> convert(Iterator<F> fromIterator, Function<F, T> function) {
+        if (fromIterator == null) {
+            return Collections.emptyIterator();
+        }
+        return new ConvertIterator<>(fromIterator, Objects.requireNonNull(function));
+    }
+
+    /**
+     * 深度转换，类型可直接赋值的属性按引用拷贝，同名但类型不同的bean、集合、map、数组属性按泛型元素类型嵌套转换，
+     * 共享引用只转换一次，循环引用转换为同样的循环
+     *
+     * @param source 转化来源对象
+     * @param type   转化后的Class
+     * @param <F>    转化来源对象泛型
+     * @param <T>    转化后的对象泛型
+     * @return 转换后的对象
+     * @see com.typhus.common.tools.convert.DeepCopier
+     */
+    public static <F, T> T convertDeep(F source, final Class<T> type) {
+        return DeepCopier.convert(source, type);
+    }
+
+    /**
+     * 深度转换List<F>为List<T>，整个list共享一次转换的已转换对象记录，不同元素间的共享引用也只转换一次
+     *
+     * @param fromList 转化来源list
+     * @param type     转化后的Class
+     * @param <F>      转化来源对象泛型
+     * @param <T>      转化后的对象泛型
+     * @return 转化后的list，跳过来源中的null元素
+     * @see com.typhus.common.tools.convert.DeepCopier
+     */
+    public static <F, T> List<T> convertDeep(List<F> fromList, final Class<T> type) {
+        return convertDeep(fromList, type, null);
+    }
+
+    /**
+     * 深度转换List<F>为List<T>，整个list共享一次转换的已转换对象记录，不同元素间的共享引用也只转换一次
+     *
+     * @param fromList 转化来源list
+     * @param type     转化后的Class
+     * @param callBack 转换后的回调
+     * @param <F>      转化来源对象泛型
+     * @param <T>      转化后的对象泛型
+     * @return 转化后的list，跳过来源中的null元素
+     * @see com.typhus.common.tools.convert.DeepCopier
+     */
+    public static <F, T> List<T> convertDeep(List<F> fromList, final Class<T> type, BiConsumer<F, T> callBack) {
+        if (fromList == null || fromList.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Object, Object> visited = new IdentityHashMap<>();
+        List<T> result = new ArrayList<>(fromList.size());
+        for (F f : fromList) {
+            if (f == null) {
+                continue;
+            }
+            T t = DeepCopier.convert(f, type, visited);
+            if (callBack != null) {
+                // 回调
+                callBack.accept(f, t);
+            }
+            result.add(t);
+        }
+        return result;
+    }
+
+    /**
+     * 按已注册的部分拷贝配置将source拷贝到target，配置在生成拷贝器时编译进拷贝器
+     *
+     * @param source      转化来源对象
+     * @param target      转化目标对象
+     * @param profileName 部分拷贝配置名称，未注册时抛出{@link IllegalArgumentException}
+     * @param <F>         转化来源对象泛型
+     * @param <T>         转来后对象的泛型
+     * @return 转换后的对象target
+     * @see com.typhus.common.tools.convert.CopyProfile
+     */
+    public static <F, T> T convertWithProfile(F source, T target, String profileName) {
+        return convertWithProfile(source, target, CopyProfile.get(profileName));
+    }
+
+    /**
+     * 按部分拷贝配置将source拷贝到target，热点路径上应预先获取配置并复用，避免每次按名称查找
+     *
+     * @param source  转化来源对象
+     * @param target  转化目标对象
+     * @param profile 部分拷贝配置
+     * @param <F>     转化来源对象泛型
+     * @param <T>     转来后对象的泛型
+     * @return 转换后的对象target
+     * @see com.typhus.common.tools.convert.CopyProfile
+     */
+    public static <F, T> T convertWithProfile(F source, T target, CopyProfile profile) {
+        if (null == source || null == target) {
+            return null;
+        }
+        BeanCopier.of(source.getClass(), target.getClass(), Objects.requireNonNull(profile)).copy(source, target);
+        return target;
+    }
+
+    /**
+     * 按已注册的部分拷贝配置将source转化为target
+     * 如果 targetSupplier为null会抛出{@link NullPointerException}
+     *
+     * @param source         转化来源对象
+     * @param targetSupplier 获取目标对象的函数式接口实现
+     * @param profileName    部分拷贝配置名称，未注册时抛出{@link IllegalArgumentException}
+     * @param <F>            转化来源对象泛型
+     * @param <T>            转来后对象的泛型
+     * @return 转换后的对象target
+     * @see com.typhus.common.tools.convert.CopyProfile
+     */
+    public static <F, T> T convertWithProfile(F source, Supplier<T> targetSupplier, String profileName) {
+        return convertWithProfile(source, targetSupplier, CopyProfile.get(profileName));
+    }
+
+    /**
+     * 按部分拷贝配置将source转化为target
+     * 如果 targetSupplier为null会抛出{@link NullPointerException}
+     *
+     * @param source         转化来源对象
+     * @param targetSupplier 获取目标对象的函数式接口实现
+     * @param profile        部分拷贝配置
+     * @param <F>            转化来源对象泛型
+     * @param <T>            转来后对象的泛型
+     * @return 转换后的对象target
+     * @see com.typhus.common.tools.convert.CopyProfile
+     */
+    public static <F, T> T convertWithProfile(F source, Supplier<T> targetSupplier, CopyProfile profile) {
+        if (null == source) {
+            return null;
+        }
+        return convertWithProfile(source, Objects.requireNonNull(targetSupplier).get(), profile);
+    }
+
+    /**
+     * 按已注册的部分拷贝配置将List<F>转化为List<T>
+     *
+     * @param fromList    转化来源list
+     * @param type        转化后的Class
+     * @param profileName 部分拷贝配置名称，未注册时抛出{@link IllegalArgumentException}
+     * @param <F>         转化来源对象泛型
+     * @param <T>         转化后的对象泛型
+     * @return 转化后的list
+     * @see com.typhus.common.tools.convert.CopyProfile
+     */
+    public static <F, T> List<T> convertWithProfile(List<F> fromList, final Class<T> type, String profileName) {
+        return convertWithProfile(fromList, type, CopyProfile.get(profileName));
+    }
+
+    /**
+     * 按部分拷贝配置将List<F>转化为List<T>
+     *
+     * @param fromList 转化来源list
+     * @param type     转化后的Class
+     * @param profile  部分拷贝配置
+     * @param <F>      转化来源对象泛型
+     * @param <T>      转化后的对象泛型
+     * @return 转化后的list
+     * @see com.typhus.common.tools.convert.CopyProfile
+     */
+    public static <F, T> List<T> convertWithProfile(List<F> fromList, final Class<T> type, CopyProfile profile) {
+        Objects.requireNonNull(profile);
+        if (fromList == null || fromList.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Supplier<T> instantiator = Instantiators.of(type);
+        return convert(fromList, f -> {
+            T t = instantiator.get();
+            BeanCopier.of(f.getClass(), type, profile).copy(f, t);
+            return t;
         });
     }
 
+    /**
+     * 将sources中的元素逐个拷贝到调用方提供的targets中对应下标的对象，浅拷贝，不创建新的对象和list<br/>
+     * <p1>sources中为null的元素对应的target保持不变；targets的大小不能小于sources、非null的source对应的target不能为null，
+     * 否则在拷贝前抛出{@link IllegalArgumentException}。</p1>
+     *
+     * @param sources 转化来源list
+     * @param targets 调用方提供的目标对象list
+     * @param <F>     转化来源对象泛型
+     * @param <T>     转化后的对象泛型
+     * @return targets
+     */
+    public static <F, T> List<T> convertInto(List<F> sources, List<T> targets) {
+        return convertInto(sources, targets, null);
+    }
+
+    /**
+     * 将sources中的元素逐个拷贝到调用方提供的targets中对应下标的对象，浅拷贝，不创建新的对象和list<br/>
+     * <p1>sources中为null的元素对应的target保持不变；targets的大小不能小于sources、非null的source对应的target不能为null，
+     * 否则在拷贝前抛出{@link IllegalArgumentException}。</p1>
+     *
+     * @param sources  转化来源list
+     * @param targets  调用方提供的目标对象list
+     * @param callBack 转换后的回调
+     * @param <F>      转化来源对象泛型
+     * @param <T>      转化后的对象泛型
+     * @return targets
+     */
+    public static <F, T> List<T> convertInto(List<F> sources, List<T> targets, BiConsumer<F, T> callBack) {
+        if (sources == null || sources.isEmpty()) {
+            return targets;
+        }
+        if (targets.size() < sources.size()) {
+            throw new IllegalArgumentException("targets size " + targets.size() + " is less than sources size " + sources.size());
+        }
+        // 拷贝前检查，避免拷贝到一半失败
+        BeanCopier copier = null;
+        if (sources instanceof RandomAccess && targets instanceof RandomAccess) {
+            int size = sources.size();
+            for (int i = 0; i < size; i++) {
+                if (targets.get(i) == null && sources.get(i) != null) {
+                    throw new IllegalArgumentException("targets[" + i + "] is null");
+                }
+            }
+            for (int i = 0; i < size; i++) {
+                copier = copyInto(copier, sources.get(i), targets.get(i), callBack);
+            }
+            return targets;
+        }
+        Iterator<T> checkIterator = targets.iterator();
+        int index = 0;
+        for (F source : sources) {
+            if (checkIterator.next() == null && source != null) {
+                throw new IllegalArgumentException("targets[" + index + "] is null");
+            }
+            index++;
+        }
+        Iterator<T> targetIterator = targets.iterator();
+        for (F source : sources) {
+            copier = copyInto(copier, source, targetIterator.next(), callBack);
+        }
+        return targets;
+    }
+
+    /**
+     * 将sources中前length个元素逐个拷贝到调用方提供的targets中对应下标的对象，浅拷贝，不创建新的对象
+     *
+     * @param sources 转化来源数组
+     * @param targets 调用方提供的目标对象数组
+     * @param length  拷贝的元素数
+     * @param <F>     转化来源对象泛型
+     * @param <T>     转化后的对象泛型
+     * @return targets
+     */
+    public static <F, T> T[] convertInto(F[] sources, T[] targets, int length) {
+        if (length > sources.length || length > targets.length) {
+            throw new IllegalArgumentException("length " + length + " is greater than sources or targets length");
+        }
+        for (int i = 0; i < length; i++) {
+            if (targets[i] == null && sources[i] != null) {
+                throw new IllegalArgumentException("targets[" + i + "] is null");
+            }
+        }
+        BeanCopier copier = null;
+        for (int i = 0; i < length; i++) {
+            copier = copyInto(copier, sources[i], targets[i], null);
+        }
+        return targets;
+    }
+
+    /**
+     * 从对象池获取目标对象并拷贝source，用完后通过{@link TargetPool#release(Object)}归还，稳定状态下不创建新的对象
+     *
+     * @param source 转化来源对象
+     * @param pool   目标对象池
+     * @param <F>    转化来源对象泛型
+     * @param <T>    转化后的对象泛型
+     * @return 转换后的对象，source为null时返回null
+     */
+    public static <F, T> T convertPooled(F source, TargetPool<T> pool) {
+        if (null == source) {
+            return null;
+        }
+        T target = pool.acquire();
+        BeanCopier.copyProperties(source, target);
+        return target;
+    }
+
+    /**
+     * 从对象池获取目标对象逐个拷贝sources，结果追加到调用方提供的out中，
+     * 用完后通过{@link TargetPool#releaseAll(List)}归还并清空out，稳定状态下不创建新的对象
+     *
+     * @param sources 转化来源list
+     * @param pool    目标对象池
+     * @param out     调用方提供的结果list
+     * @param <F>     转化来源对象泛型
+     * @param <T>     转化后的对象泛型
+     * @return out
+     */
+    public static <F, T> List<T> convertPooled(List<F> sources, TargetPool<T> pool, List<T> out) {
+        if (sources == null || sources.isEmpty()) {
+            return out;
+        }
+        BeanCopier copier = null;
+        for (int i = 0, size = sources.size(); i < size; i++) {
+            F source = sources.get(i);
+            if (source == null) {
+                continue;
+            }
+            T target = pool.acquire();
+            copier = copyInto(copier, source, target, null);
+            out.add(target);
+        }
+        return out;
+    }
+
+    /**
+     * 拷贝单个元素，来源和目标的class与上一个元素相同时复用上一个拷贝器
+     *
+     * @param last     上一个元素使用的拷贝器，可能为null
+     * @param source   来源对象
+     * @param target   目标对象
+     * @param callBack 转换后的回调
+     * @param <F>      转化来源对象泛型
+     * @param <T>      转化后的对象泛型
+     * @return 本次使用的拷贝器
+     */
+    private static <F, T> BeanCopier copyInto(BeanCopier last, F source, T target, BiConsumer<F, T> callBack) {
+        if (source == null) {
+            return last;
+        }
+        BeanCopier copier = last;
+        if (copier == null || copier.getSourceType() != source.getClass() || copier.getTargetType() != target.getClass()) {
+            copier = BeanCopier.of(source.getClass(), target.getClass());
+        }
+        copier.copy(source, target);
+        if (callBack != null) {
+            // 回调
+            callBack.accept(source, target);
+        }
+        return copier;
+    }
+
+    /**
+     * map转bean，不经过JSON文本，map中不存在的属性保持默认值<br/>
+     * <p1>值类型与属性类型不一致时，数值之间按Number转换，其余类型使用TypeConverters转换。</p1>
+     *
+     * @param map  属性名 -> 属性值
+     * @param type bean class
+     * @param <T>  bean泛型
+     * @return bean，map为null时返回null
+     */
+    public static <T> T map2Bean(Map<String, ?> map, Class<T> type) {
+        if (null == map) {
+            return null;
+        }
+        return map2Bean(map, Instantiators.of(type).get());
+    }
+
+    /**
+     * 将map的值写入已有bean，map中不存在的属性保持不变
+     *
+     * @param map    属性名 -> 属性值
+     * @param target 目标bean
+     * @param <T>    bean泛型
+     * @return target
+     */
+    public static <T> T map2Bean(Map<String, ?> map, T target) {
+        if (null == map) {
+            return target;
+        }
+        MapCopier.of(target.getClass()).copy(map, target);
+        return target;
+    }
+
+    /**
+     * bean转map，不经过JSON文本，按属性顺序写入LinkedHashMap，null值同样写入
+     *
+     * @param bean bean
+     * @return 属性名 -> 属性值，bean为null时返回null
+     */
+    public static Map<String, Object> bean2Map(Object bean) {
+        if (null == bean) {
+            return null;
+        }
+        return MapCopier.of(bean.getClass()).toMap(bean);
+    }
+
+    /**
+     * 预先生成sourceType到targetType的拷贝器和targetType的创建器，建议在应用启动时调用，
+     * targetType没有可用的无参构造器时会立即抛出{@link IllegalArgumentException}
+     *
+     * @param sourceType 转化来源Class
+     * @param targetType 转化后的Class
+     * @param <F>        转化来源对象泛型
+     * @param <T>        转化后的对象泛型
+     */
+    public static <F, T> void prepare(Class<F> sourceType, Class<T> targetType) {
+        Instantiators.of(targetType);
+        BeanCopier.of(sourceType, targetType);
+    }
+
 //    /**
 //     * 采用Spring BeanUtils#copyProperties方式将List<F>转化为List<T>，浅拷贝
 //     *
@@ -157,7 +764,7 @@ public class ConvertUtils {
 //     * @param <F>      转化来源对象泛型
 //     * @param <T>      转化后的对象泛型
 //     * @return 转化后的list
-//     * @see org.springframework.beans.BeanUtils#copyProperties(java.lang.Object, java.lang.Object)
+//     * @see com.typhus.common.tools.convert.BeanCopier#copyProperties(java.lang.Object, java.lang.Object)
 //     */
 //    public static <F, T> PageResult<T> convert(PageResult<F> fromPageResult, final Class<T> type, BiConsumer<F, T> callBack) {
 //        return convert(fromPageResult, f -> {
@@ -1,18 +1,65 @@
 package com.typhus.common.tools;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedOutputStream;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.dataformat.xml.XmlFactory;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
-import sun.reflect.generics.reflectiveObjects.ParameterizedTypeImpl;
+import com.typhus.common.tools.jackson.AsyncJsonReader;
+import com.typhus.common.tools.jackson.BufferRecyclerPool;
+import com.typhus.common.tools.jackson.GeneratedJsonCodecs;
+import com.typhus.common.tools.jackson.HashingOutputStream;
+import com.typhus.common.tools.jackson.JsonPathExtractor;
+import com.typhus.common.tools.jackson.MappedFileInputStream;
+import com.typhus.common.tools.jackson.NdjsonReader;
+import com.typhus.common.tools.jackson.NdjsonWriter;
+import com.typhus.common.tools.jackson.ObjectCodecs;
+import com.typhus.common.tools.jackson.PooledFactories;
+import com.typhus.common.tools.jackson.StringCanonicalizer;
+import com.typhus.common.tools.jackson.WarmUpReport;
+import com.typhus.common.tools.jackson.XmlElementIterator;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.ClassMetadata;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.util.ClassUtils;
 
-import java.lang.reflect.Array;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.Checksum;
 
 /**
  * jackson实现的格式化工具
@@ -25,55 +72,96 @@ public class JacksonUtil {
     /**
      * json OBJECT_MAPPER
      */
-    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper(new PooledFactories.Json());
 
     /**
      * xml OBJECT_MAPPER
      */
-    private static final ObjectMapper XML_MAPPER = new XmlMapper();
+    private static final ObjectMapper XML_MAPPER = new XmlMapper(new PooledFactories.Xml());
+
+    /**
+     * smile OBJECT_MAPPER，二进制json
+     */
+    private static final ObjectMapper SMILE_MAPPER = new SmileMapper(new PooledFactories.Smile());
+
+    /**
+     * cbor OBJECT_MAPPER，二进制json
+     */
+    private static final ObjectMapper CBOR_MAPPER = new CBORMapper(new PooledFactories.Cbor());
+
+    /**
+     * json reader/writer缓存
+     */
+    private static final ObjectCodecs JSON_CODECS = new ObjectCodecs(JSON_MAPPER);
+
+    /**
+     * xml reader/writer缓存
+     */
+    private static final ObjectCodecs XML_CODECS = new ObjectCodecs(XML_MAPPER);
+
+    /**
+     * smile reader/writer缓存
+     */
+    private static final ObjectCodecs SMILE_CODECS = new ObjectCodecs(SMILE_MAPPER);
+
+    /**
+     * cbor reader/writer缓存
+     */
+    private static final ObjectCodecs CBOR_CODECS = new ObjectCodecs(CBOR_MAPPER);
 
     static {
-        // 序列化时，跳过null属性
-        JSON_MAPPER.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-        // 序列化时，遇到空bean（无属性）时不会失败
-        JSON_MAPPER.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-        // 反序列化时，遇到未知属性（在bean上找不到对应属性）时不会失败
-        JSON_MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        // 反序列化时，将空数组([])当做null来处理（以便把空数组反序列化到对象属性上）
-        JSON_MAPPER.configure(DeserializationFeature.ACCEPT_EMPTY_ARRAY_AS_NULL_OBJECT, true);
-        // 不通过fields来探测（仅通过标准getter探测）
-        JSON_MAPPER.configure(MapperFeature.AUTO_DETECT_FIELDS, false);
-        // 按字典顺序排序
-        JSON_MAPPER.configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
-        // 允许非引号控制字符（值小于32的ASCII字符，包含制表符和换行符）
-        JSON_MAPPER.configure(JsonParser.Feature.ALLOW_UNQUOTED_CONTROL_CHARS, true);
+        configure(JSON_MAPPER);
+        configure(XML_MAPPER);
+        configure(SMILE_MAPPER);
+        configure(CBOR_MAPPER);
+        // 编译期为@GenerateJsonCodec生成的序列化器/反序列化器
+        JSON_MAPPER.registerModule(GeneratedJsonCodecs.module());
+    }
 
+    /**
+     * 各格式的ObjectMapper使用相同的配置
+     *
+     * @param objectMapper jackson转换对象
+     */
+    private static void configure(ObjectMapper objectMapper) {
         // 序列化时，跳过null属性
-        XML_MAPPER.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
         // 序列化时，遇到空bean（无属性）时不会失败
-        XML_MAPPER.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        objectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
         // 反序列化时，遇到未知属性（在bean上找不到对应属性）时不会失败
-        XML_MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         // 反序列化时，将空数组([])当做null来处理（以便把空数组反序列化到对象属性上）
-        XML_MAPPER.configure(DeserializationFeature.ACCEPT_EMPTY_ARRAY_AS_NULL_OBJECT, true);
+        objectMapper.configure(DeserializationFeature.ACCEPT_EMPTY_ARRAY_AS_NULL_OBJECT, true);
         // 不通过fields来探测（仅通过标准getter探测）
-        XML_MAPPER.configure(MapperFeature.AUTO_DETECT_FIELDS, false);
+        objectMapper.configure(MapperFeature.AUTO_DETECT_FIELDS, false);
         // 按字典顺序排序
-        XML_MAPPER.configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
+        objectMapper.configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
         // 允许非引号控制字符（值小于32的ASCII字符，包含制表符和换行符）
-        XML_MAPPER.configure(JsonParser.Feature.ALLOW_UNQUOTED_CONTROL_CHARS, true);
+        objectMapper.configure(JsonParser.Feature.ALLOW_UNQUOTED_CONTROL_CHARS, true);
+        // 读写流时不关闭调用方传入的流
+        objectMapper.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        objectMapper.configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false);
+    }
 
+    /**
+     * 切换buffer回收方式：开启时所有mapper从全局的无锁BufferRecycler池获取buffer，适用于虚拟线程；
+     * 关闭时使用jackson默认的ThreadLocal回收。也可以通过系统属性{@value BufferRecyclerPool#ENABLED_PROPERTY}开启
+     *
+     * @param enabled 是否使用全局池
+     */
+    public static void setGlobalBufferPool(boolean enabled) {
+        BufferRecyclerPool.setEnabled(enabled);
     }
 
     /**
      * 对象转换为string
      *
      * @param object       对象
-     * @param objectMapper jackson转换对象
+     * @param codecs jackson reader/writer缓存
      * @return 字符串
      */
-    private static String bean2String(Object object, ObjectMapper objectMapper) throws JsonProcessingException {
-        return objectMapper.writeValueAsString(object);
+    private static String bean2String(Object object, ObjectCodecs codecs) throws JsonProcessingException {
+        return codecs.writerFor(object).writeValueAsString(object);
     }
 
     /**
@@ -84,7 +172,7 @@ public class JacksonUtil {
      */
     public static String bean2String(Object object) {
         try {
-            return bean2String(object, JSON_MAPPER);
+            return bean2String(object, JSON_CODECS);
         } catch (Exception e) {
             throw new RuntimeException("not able to convert object to json", e);
         }
@@ -98,7 +186,7 @@ public class JacksonUtil {
      */
     public static String bean2StringWithXml(Object object) {
         try {
-            return bean2String(object, XML_MAPPER);
+            return bean2String(object, XML_CODECS);
         } catch (Exception e) {
             throw new RuntimeException("not able to convert object to xml", e);
         }
@@ -109,12 +197,12 @@ public class JacksonUtil {
      *
      * @param str          字符串
      * @param tClass       对象类型
-     * @param objectMapper jackson转换对象
-     * @param <T>          T
+     * @param codecs jackson reader/writer缓存
+     * @param <T>    T
      * @return 对象
      */
-    private static <T> T string2Bean(String str, Class<T> tClass, ObjectMapper objectMapper) throws JsonProcessingException {
-        return objectMapper.readValue(str, tClass);
+    private static <T> T string2Bean(String str, Class<T> tClass, ObjectCodecs codecs) throws JsonProcessingException {
+        return codecs.reader(tClass).readValue(str);
     }
 
     /**
@@ -127,7 +215,7 @@ public class JacksonUtil {
      */
     public static <T> T string2Bean(String jsonStr, Class<T> tClass) {
         try {
-            return string2Bean(jsonStr, tClass, JSON_MAPPER);
+            return string2Bean(jsonStr, tClass, JSON_CODECS);
         } catch (Exception e) {
             throw new RuntimeException("not able to convert json string:" + jsonStr, e);
         }
@@ -143,7 +231,7 @@ public class JacksonUtil {
      */
     public static <T> T string2BeanWithXml(String xmlStr, Class<T> tClass) {
         try {
-            return string2Bean(xmlStr, tClass, XML_MAPPER);
+            return string2Bean(xmlStr, tClass, XML_CODECS);
         } catch (Exception e) {
             throw new RuntimeException("not able to convert xml string:" + xmlStr, e);
         }
@@ -154,13 +242,12 @@ public class JacksonUtil {
      *
      * @param str          字符串
      * @param tClass       对象类型
-     * @param objectMapper jackson转换对象
-     * @param <T>          T
+     * @param codecs jackson reader/writer缓存
+     * @param <T>    T
      * @return 对象数组
      */
-    private static <T> T[] string2Array(String str, Class<T> tClass, ObjectMapper objectMapper) throws JsonProcessingException {
-        Class<?> arrayClass = Array.newInstance(tClass, 0).getClass();
-        return (T[]) objectMapper.readValue(str, arrayClass);
+    private static <T> T[] string2Array(String str, Class<T> tClass, ObjectCodecs codecs) throws JsonProcessingException {
+        return codecs.reader(codecs.arrayType(tClass)).readValue(str);
     }
 
     /**
@@ -173,7 +260,7 @@ public class JacksonUtil {
      */
     public static <T> T[] string2Array(String jsonStr, Class<T> tClass) {
         try {
-            return string2Array(jsonStr, tClass, JSON_MAPPER);
+            return string2Array(jsonStr, tClass, JSON_CODECS);
         } catch (Exception e) {
             throw new RuntimeException("not able to convert json string:" + jsonStr, e);
         }
@@ -189,7 +276,7 @@ public class JacksonUtil {
      */
     public static <T> T[] string2ArrayWithXml(String xmlStr, Class<T> tClass) {
         try {
-            return string2Array(xmlStr, tClass, XML_MAPPER);
+            return string2Array(xmlStr, tClass, XML_CODECS);
         } catch (Exception e) {
             throw new RuntimeException("not able to convert xml string:" + xmlStr, e);
         }
@@ -200,18 +287,12 @@ public class JacksonUtil {
      *
      * @param str          字符串
      * @param tClass       对象类型
-     * @param objectMapper jackson转换对象
-     * @param <T>          T
+     * @param codecs jackson reader/writer缓存
+     * @param <T>    T
      * @return 对象list
      */
-    private static <T> List<T> string2List(String str, Class<T> tClass, ObjectMapper objectMapper) throws JsonProcessingException {
-        TypeReference<List<T>> typeRef = new TypeReference<List<T>>() {
-            @Override
-            public Type getType() {
-                return ParameterizedTypeImpl.make(List.class, new Type[]{tClass}, null);
-            }
-        };
-        return objectMapper.readValue(str, typeRef);
+    private static <T> List<T> string2List(String str, Class<T> tClass, ObjectCodecs codecs) throws JsonProcessingException {
+        return codecs.reader(codecs.listType(tClass)).readValue(str);
     }
 
     /**
@@ -224,7 +305,7 @@ public class JacksonUtil {
      */
     public static <T> List<T> string2List(String jsonStr, Class<T> tClass) {
         try {
-            return string2List(jsonStr, tClass, JSON_MAPPER);
+            return string2List(jsonStr, tClass, JSON_CODECS);
         } catch (Exception e) {
             throw new RuntimeException("not able to convert json string:" + jsonStr, e);
         }
@@ -240,7 +321,7 @@ public class JacksonUtil {
      */
     public static <T> List<T> string2ListWithXml(String xmlStr, Class<T> tClass) {
         try {
-            return string2List(xmlStr, tClass, XML_MAPPER);
+            return string2List(xmlStr, tClass, XML_CODECS);
         } catch (Exception e) {
             throw new RuntimeException("not able to convert xml string:" + xmlStr, e);
         }
@@ -259,13 +340,27 @@ public class JacksonUtil {
      */
     public static <K, V> Map<K, V> string2Map(String str, Class<K> keyClass, Class<V> valueClass, ObjectMapper objectMapper)
             throws JsonProcessingException {
-        TypeReference<Map<K, V>> typeRef = new TypeReference<Map<K, V>>() {
-            @Override
-            public Type getType() {
-                return ParameterizedTypeImpl.make(Map.class, new Type[]{keyClass, valueClass}, null);
-            }
-        };
-        return objectMapper.readValue(str, typeRef);
+        ObjectCodecs codecs = codecs(objectMapper);
+        if (codecs != null) {
+            return string2Map(str, keyClass, valueClass, codecs);
+        }
+        return objectMapper.readValue(str, objectMapper.getTypeFactory().constructMapType(Map.class, keyClass, valueClass));
+    }
+
+    /**
+     * string转换为泛型map
+     *
+     * @param str        字符串
+     * @param keyClass   key类型
+     * @param valueClass value类型
+     * @param codecs     jackson reader/writer缓存
+     * @param <K>        K
+     * @param <V>        V
+     * @return map
+     */
+    private static <K, V> Map<K, V> string2Map(String str, Class<K> keyClass, Class<V> valueClass, ObjectCodecs codecs)
+            throws JsonProcessingException {
+        return codecs.reader(codecs.mapType(keyClass, valueClass)).readValue(str);
     }
 
     /**
@@ -280,7 +375,7 @@ public class JacksonUtil {
      */
     public static <K, V> Map<K, V> string2Map(String jsonStr, Class<K> keyClass, Class<V> valueClass) {
         try {
-            return string2Map(jsonStr, keyClass, valueClass, JSON_MAPPER);
+            return string2Map(jsonStr, keyClass, valueClass, JSON_CODECS);
         } catch (Exception e) {
             throw new RuntimeException("not able to convert json string:" + jsonStr, e);
         }
@@ -298,7 +393,7 @@ public class JacksonUtil {
      */
     public static <K, V> Map<K, V> string2MapWithXml(String xmlStr, Class<K> keyClass, Class<V> valueClass) {
         try {
-            return string2Map(xmlStr, keyClass, valueClass, XML_MAPPER);
+            return string2Map(xmlStr, keyClass, valueClass, XML_CODECS);
         } catch (Exception e) {
             throw new RuntimeException("not able to convert xml string:" + xmlStr, e);
         }
@@ -309,13 +404,13 @@ public class JacksonUtil {
      *
      * @param str          字符串
      * @param valueTypeRef jackson 泛序列化时确定泛型的类
-     * @param objectMapper jackson转换对象
+     * @param codecs       jackson reader/writer缓存
      * @param <T>          T
      * @return 对象
      */
-    private static <T> T string2Bean(String str, TypeReference<T> valueTypeRef, ObjectMapper objectMapper)
+    private static <T> T string2Bean(String str, TypeReference<T> valueTypeRef, ObjectCodecs codecs)
             throws JsonProcessingException {
-        return objectMapper.readValue(str, valueTypeRef);
+        return codecs.reader(codecs.type(valueTypeRef.getType())).readValue(str);
     }
 
     /**
@@ -328,7 +423,7 @@ public class JacksonUtil {
      */
     public static <T> T string2Bean(String jsonStr, TypeReference<T> valueTypeRef) {
         try {
-            return string2Bean(jsonStr, valueTypeRef, JSON_MAPPER);
+            return string2Bean(jsonStr, valueTypeRef, JSON_CODECS);
         } catch (Exception e) {
             throw new RuntimeException("not able to convert json string:" + jsonStr, e);
         }
@@ -344,7 +439,7 @@ public class JacksonUtil {
      */
     public static <T> T string2BeanWithXml(String xmlStr, TypeReference<T> valueTypeRef) {
         try {
-            return string2Bean(xmlStr, valueTypeRef, XML_MAPPER);
+            return string2Bean(xmlStr, valueTypeRef, XML_CODECS);
         } catch (Exception e) {
             throw new RuntimeException("not able to convert xml string:" + xmlStr, e);
         }
@@ -360,14 +455,11 @@ public class JacksonUtil {
      * @return 对象
      */
     public static <T> T string2Bean(String jsonStr, Type[] types, Class<T> clazz) {
-        final ParameterizedTypeImpl type = ParameterizedTypeImpl.make(clazz, types, clazz.getDeclaringClass());
-        TypeReference<T> typeReference = new TypeReference<T>() {
-            @Override
-            public Type getType() {
-                return type;
-            }
-        };
-        return string2Bean(jsonStr, typeReference);
+        try {
+            return JSON_CODECS.reader(JSON_CODECS.parametricType(clazz, types)).readValue(jsonStr);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to convert json string:" + jsonStr, e);
+        }
     }
 
     /**
@@ -380,30 +472,1159 @@ public class JacksonUtil {
      * @return 对象
      */
     public static <T> T string2BeanWithXml(String xmlStr, Type[] types, Class<T> clazz) {
-        final ParameterizedTypeImpl type = ParameterizedTypeImpl.make(clazz, types, clazz.getDeclaringClass());
-        TypeReference<T> typeReference = new TypeReference<T>() {
-            @Override
-            public Type getType() {
-                return type;
-            }
-        };
-        return string2BeanWithXml(xmlStr, typeReference);
+        try {
+            return XML_CODECS.reader(XML_CODECS.parametricType(clazz, types)).readValue(xmlStr);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to convert xml string:" + xmlStr, e);
+        }
     }
 
     /**
-     * 创建JsonNode，不可变
+     * 对象转换为UTF-8字节数组
      *
-     * @param jsonStr
-     * @return
+     * @param object       对象
+     * @param codecs jackson reader/writer缓存
+     * @return 字节数组
      */
-    public static JsonNode createJsonNode(String jsonStr) {
+    private static byte[] bean2Bytes(Object object, ObjectCodecs codecs) throws JsonProcessingException {
+        return codecs.writerFor(object).writeValueAsBytes(object);
+    }
+
+    /**
+     * 对象转换为json UTF-8字节数组，不经过中间String
+     *
+     * @param object 对象
+     * @return json字节数组
+     */
+    public static byte[] bean2Bytes(Object object) {
         try {
-            return JSON_MAPPER.readTree(jsonStr);
+            return bean2Bytes(object, JSON_CODECS);
         } catch (Exception e) {
-            throw new RuntimeException("not able to convert JsonNode string:" + jsonStr, e);
+            throw new RuntimeException("not able to convert object to json", e);
+        }
+    }
+
+    /**
+     * 对象转换为xml UTF-8字节数组，不经过中间String
+     *
+     * @param object 对象
+     * @return xml字节数组
+     */
+    public static byte[] bean2BytesWithXml(Object object) {
+        try {
+            return bean2Bytes(object, XML_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to convert object to xml", e);
+        }
+    }
+
+    /**
+     * 对象以UTF-8写入输出流
+     *
+     * @param object       对象
+     * @param out          输出流
+     * @param codecs jackson reader/writer缓存
+     */
+    private static void writeTo(Object object, OutputStream out, ObjectCodecs codecs) throws IOException {
+        codecs.writerFor(object).writeValue(out, object);
+    }
+
+    /**
+     * 对象以json写入输出流，写完后flush，不关闭输出流
+     *
+     * @param object 对象
+     * @param out    输出流
+     */
+    public static void writeTo(Object object, OutputStream out) {
+        try {
+            writeTo(object, out, JSON_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to write object as json", e);
+        }
+    }
+
+    /**
+     * 对象以xml写入输出流，写完后flush，不关闭输出流
+     *
+     * @param object 对象
+     * @param out    输出流
+     */
+    public static void writeToWithXml(Object object, OutputStream out) {
+        try {
+            writeTo(object, out, XML_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to write object as xml", e);
+        }
+    }
+
+    /**
+     * 对象以json写入ByteBuffer，从buffer当前position开始写，剩余空间不足时抛出异常
+     *
+     * @param object 对象
+     * @param buffer 目标buffer
+     * @return 写入的字节数
+     */
+    public static int writeTo(Object object, ByteBuffer buffer) {
+        int start = buffer.position();
+        writeTo(object, new ByteBufferBackedOutputStream(buffer));
+        return buffer.position() - start;
+    }
+
+    /**
+     * 对象以xml写入ByteBuffer，从buffer当前position开始写，剩余空间不足时抛出异常
+     *
+     * @param object 对象
+     * @param buffer 目标buffer
+     * @return 写入的字节数
+     */
+    public static int writeToWithXml(Object object, ByteBuffer buffer) {
+        int start = buffer.position();
+        writeToWithXml(object, new ByteBufferBackedOutputStream(buffer));
+        return buffer.position() - start;
+    }
+
+    /**
+     * 计算对象json的消息摘要，序列化结果直接写入摘要，不生成json字符串<br/>
+     * <p1>json按属性名排序且跳过null，相同内容的对象得到相同的摘要，可用于幂等键、签名。
+     * 结果与对{@link #bean2String(Object)}的UTF-8字节计算摘要一致。</p1>
+     *
+     * @param object    对象
+     * @param algorithm 摘要算法，比如SHA-256、MD5
+     * @return 摘要
+     */
+    public static byte[] digest(Object object, String algorithm) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("not able to find digest algorithm:" + algorithm, e);
+        }
+        return digest(object, digest);
+    }
+
+    /**
+     * 计算对象json的消息摘要，序列化结果直接写入摘要，不生成json字符串，计算完成后digest被重置
+     *
+     * @param object 对象
+     * @param digest 消息摘要，可以复用
+     * @return 摘要
+     */
+    public static byte[] digest(Object object, MessageDigest digest) {
+        try {
+            writeTo(object, new HashingOutputStream(digest), JSON_CODECS);
+        } catch (Exception e) {
+            digest.reset();
+            throw new RuntimeException("not able to digest object as json", e);
+        }
+        return digest.digest();
+    }
+
+    /**
+     * 计算对象json的校验和，序列化结果直接写入校验和，不生成json字符串
+     *
+     * @param object   对象
+     * @param checksum 校验和，比如CRC32，计算前会被重置
+     * @return 校验和
+     */
+    public static long checksum(Object object, Checksum checksum) {
+        checksum.reset();
+        try {
+            writeTo(object, new HashingOutputStream(checksum), JSON_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to checksum object as json", e);
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * 字节数组转换为对象
+     *
+     * @param bytes        字节数组
+     * @param javaType     对象类型
+     * @param codecs   jackson reader/writer缓存
+     * @param <T>      T
+     * @return 对象
+     */
+    private static <T> T bytes2Bean(byte[] bytes, JavaType javaType, ObjectCodecs codecs) throws IOException {
+        return codecs.reader(javaType).readValue(bytes);
+    }
+
+    /**
+     * json字节数组转换为对象，不经过中间String
+     *
+     * @param jsonBytes json字节数组
+     * @param tClass    对象类型
+     * @param <T>       T
+     * @return 对象
+     */
+    public static <T> T bytes2Bean(byte[] jsonBytes, Class<T> tClass) {
+        try {
+            return bytes2Bean(jsonBytes, JSON_CODECS.type(tClass), JSON_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to convert json bytes to " + tClass.getName(), e);
+        }
+    }
+
+    /**
+     * json字节数组转换为嵌套对象，不经过中间String
+     *
+     * @param jsonBytes    json字节数组
+     * @param valueTypeRef jackson 泛序列化时确定泛型的类
+     * @param <T>          T
+     * @return 对象
+     */
+    public static <T> T bytes2Bean(byte[] jsonBytes, TypeReference<T> valueTypeRef) {
+        try {
+            return bytes2Bean(jsonBytes, JSON_CODECS.type(valueTypeRef.getType()), JSON_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to convert json bytes to " + valueTypeRef.getType(), e);
+        }
+    }
+
+    /**
+     * xml字节数组转换为对象，不经过中间String
+     *
+     * @param xmlBytes xml字节数组
+     * @param tClass   对象类型
+     * @param <T>      T
+     * @return 对象
+     */
+    public static <T> T bytes2BeanWithXml(byte[] xmlBytes, Class<T> tClass) {
+        try {
+            return bytes2Bean(xmlBytes, XML_CODECS.type(tClass), XML_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to convert xml bytes to " + tClass.getName(), e);
+        }
+    }
+
+    /**
+     * xml字节数组转换为嵌套对象，不经过中间String
+     *
+     * @param xmlBytes     xml字节数组
+     * @param valueTypeRef jackson 泛序列化时确定泛型的类
+     * @param <T>          T
+     * @return 对象
+     */
+    public static <T> T bytes2BeanWithXml(byte[] xmlBytes, TypeReference<T> valueTypeRef) {
+        try {
+            return bytes2Bean(xmlBytes, XML_CODECS.type(valueTypeRef.getType()), XML_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to convert xml bytes to " + valueTypeRef.getType(), e);
+        }
+    }
+
+    /**
+     * 从输入流读取对象
+     *
+     * @param in           输入流
+     * @param javaType     对象类型
+     * @param codecs   jackson reader/writer缓存
+     * @param <T>      T
+     * @return 对象
+     */
+    private static <T> T read(InputStream in, JavaType javaType, ObjectCodecs codecs) throws IOException {
+        return codecs.reader(javaType).readValue(in);
+    }
+
+    /**
+     * 从输入流读取json对象，不关闭输入流
+     *
+     * @param in     输入流
+     * @param tClass 对象类型
+     * @param <T>    T
+     * @return 对象
+     */
+    public static <T> T read(InputStream in, Class<T> tClass) {
+        try {
+            return read(in, JSON_CODECS.type(tClass), JSON_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to read json stream to " + tClass.getName(), e);
+        }
+    }
+
+    /**
+     * 从输入流读取json嵌套对象，不关闭输入流
+     *
+     * @param in           输入流
+     * @param valueTypeRef jackson 泛序列化时确定泛型的类
+     * @param <T>          T
+     * @return 对象
+     */
+    public static <T> T read(InputStream in, TypeReference<T> valueTypeRef) {
+        try {
+            return read(in, JSON_CODECS.type(valueTypeRef.getType()), JSON_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to read json stream to " + valueTypeRef.getType(), e);
+        }
+    }
+
+    /**
+     * 从ByteBuffer的剩余字节读取一个json对象，读取后buffer的position移动到该对象结束处，
+     * 之后的字节（例如连续写入的下一个对象）可以继续读取
+     *
+     * @param buffer 来源buffer
+     * @param tClass 对象类型
+     * @param <T>    T
+     * @return 对象
+     */
+    public static <T> T read(ByteBuffer buffer, Class<T> tClass) {
+        int start = buffer.position();
+        // 解析器会预读整块数据，按解析器的字节偏移回退position
+        try (JsonParser parser = JSON_MAPPER.getFactory().createParser(new ByteBufferBackedInputStream(buffer))) {
+            T value = JSON_CODECS.reader(tClass).readValue(parser);
+            buffer.position(start + (int) parser.getCurrentLocation().getByteOffset());
+            return value;
+        } catch (Exception e) {
+            throw new RuntimeException("not able to read json buffer to " + tClass.getName(), e);
+        }
+    }
+
+    /**
+     * 从输入流读取xml对象，不关闭输入流
+     *
+     * @param in     输入流
+     * @param tClass 对象类型
+     * @param <T>    T
+     * @return 对象
+     */
+    public static <T> T readWithXml(InputStream in, Class<T> tClass) {
+        try {
+            return read(in, XML_CODECS.type(tClass), XML_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to read xml stream to " + tClass.getName(), e);
         }
     }
 
+    /**
+     * 从输入流读取xml嵌套对象，不关闭输入流
+     *
+     * @param in           输入流
+     * @param valueTypeRef jackson 泛序列化时确定泛型的类
+     * @param <T>          T
+     * @return 对象
+     */
+    public static <T> T readWithXml(InputStream in, TypeReference<T> valueTypeRef) {
+        try {
+            return read(in, XML_CODECS.type(valueTypeRef.getType()), XML_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to read xml stream to " + valueTypeRef.getType(), e);
+        }
+    }
+
+    /**
+     * 从ByteBuffer的剩余字节读取xml对象，xml只有一个根节点，剩余字节视为同一个文档，读取后buffer的position移动到limit
+     *
+     * @param buffer 来源buffer
+     * @param tClass 对象类型
+     * @param <T>    T
+     * @return 对象
+     */
+    public static <T> T readWithXml(ByteBuffer buffer, Class<T> tClass) {
+        T value = readWithXml(new ByteBufferBackedInputStream(buffer), tClass);
+        buffer.position(buffer.limit());
+        return value;
+    }
+
+    /**
+     * 对象转换为smile字节数组
+     *
+     * @param object 对象
+     * @return smile字节数组
+     */
+    public static byte[] bean2BytesWithSmile(Object object) {
+        try {
+            return bean2Bytes(object, SMILE_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to convert object to smile", e);
+        }
+    }
+
+    /**
+     * smile字节数组转换为对象
+     *
+     * @param bytes  smile字节数组
+     * @param tClass 对象类型
+     * @param <T>    T
+     * @return 对象
+     */
+    public static <T> T bytes2BeanWithSmile(byte[] bytes, Class<T> tClass) {
+        try {
+            return bytes2Bean(bytes, SMILE_CODECS.type(tClass), SMILE_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to convert smile bytes to " + tClass.getName(), e);
+        }
+    }
+
+    /**
+     * smile字节数组转换为嵌套对象
+     *
+     * @param bytes        smile字节数组
+     * @param valueTypeRef jackson 泛序列化时确定泛型的类
+     * @param <T>          T
+     * @return 对象
+     */
+    public static <T> T bytes2BeanWithSmile(byte[] bytes, TypeReference<T> valueTypeRef) {
+        try {
+            return bytes2Bean(bytes, SMILE_CODECS.type(valueTypeRef.getType()), SMILE_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to convert smile bytes to " + valueTypeRef.getType(), e);
+        }
+    }
+
+    /**
+     * 对象以smile写入输出流，写完后flush，不关闭输出流
+     *
+     * @param object 对象
+     * @param out    输出流
+     */
+    public static void writeToWithSmile(Object object, OutputStream out) {
+        try {
+            writeTo(object, out, SMILE_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to write object as smile", e);
+        }
+    }
+
+    /**
+     * 从输入流读取smile对象，不关闭输入流
+     *
+     * @param in     输入流
+     * @param tClass 对象类型
+     * @param <T>    T
+     * @return 对象
+     */
+    public static <T> T readWithSmile(InputStream in, Class<T> tClass) {
+        try {
+            return read(in, SMILE_CODECS.type(tClass), SMILE_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to read smile stream to " + tClass.getName(), e);
+        }
+    }
+
+    /**
+     * 对象转换为cbor字节数组
+     *
+     * @param object 对象
+     * @return cbor字节数组
+     */
+    public static byte[] bean2BytesWithCbor(Object object) {
+        try {
+            return bean2Bytes(object, CBOR_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to convert object to cbor", e);
+        }
+    }
+
+    /**
+     * cbor字节数组转换为对象
+     *
+     * @param bytes  cbor字节数组
+     * @param tClass 对象类型
+     * @param <T>    T
+     * @return 对象
+     */
+    public static <T> T bytes2BeanWithCbor(byte[] bytes, Class<T> tClass) {
+        try {
+            return bytes2Bean(bytes, CBOR_CODECS.type(tClass), CBOR_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to convert cbor bytes to " + tClass.getName(), e);
+        }
+    }
+
+    /**
+     * cbor字节数组转换为嵌套对象
+     *
+     * @param bytes        cbor字节数组
+     * @param valueTypeRef jackson 泛序列化时确定泛型的类
+     * @param <T>          T
+     * @return 对象
+     */
+    public static <T> T bytes2BeanWithCbor(byte[] bytes, TypeReference<T> valueTypeRef) {
+        try {
+            return bytes2Bean(bytes, CBOR_CODECS.type(valueTypeRef.getType()), CBOR_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to convert cbor bytes to " + valueTypeRef.getType(), e);
+        }
+    }
+
+    /**
+     * 对象以cbor写入输出流，写完后flush，不关闭输出流
+     *
+     * @param object 对象
+     * @param out    输出流
+     */
+    public static void writeToWithCbor(Object object, OutputStream out) {
+        try {
+            writeTo(object, out, CBOR_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to write object as cbor", e);
+        }
+    }
+
+    /**
+     * 从输入流读取cbor对象，不关闭输入流
+     *
+     * @param in     输入流
+     * @param tClass 对象类型
+     * @param <T>    T
+     * @return 对象
+     */
+    public static <T> T readWithCbor(InputStream in, Class<T> tClass) {
+        try {
+            return read(in, CBOR_CODECS.type(tClass), CBOR_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to read cbor stream to " + tClass.getName(), e);
+        }
+    }
+
+    /**
+     * 通过内存映射读取文件并转换为对象，数据由page cache直接提供，不在堆上复制整个文件
+     *
+     * @param path     文件路径
+     * @param javaType 对象类型
+     * @param codecs   jackson reader/writer缓存
+     * @param <T>      T
+     * @return 对象
+     */
+    private static <T> T readFile(Path path, JavaType javaType, ObjectCodecs codecs) throws IOException {
+        try (InputStream in = new MappedFileInputStream(path)) {
+            return read(in, javaType, codecs);
+        }
+    }
+
+    /**
+     * 通过内存映射读取json文件并转换为对象
+     *
+     * @param path   文件路径
+     * @param tClass 对象类型
+     * @param <T>    T
+     * @return 对象
+     */
+    public static <T> T readFile(Path path, Class<T> tClass) {
+        try {
+            return readFile(path, JSON_CODECS.type(tClass), JSON_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to read json file:" + path, e);
+        }
+    }
+
+    /**
+     * 通过内存映射读取json文件并转换为嵌套对象
+     *
+     * @param path         文件路径
+     * @param valueTypeRef jackson 泛序列化时确定泛型的类
+     * @param <T>          T
+     * @return 对象
+     */
+    public static <T> T readFile(Path path, TypeReference<T> valueTypeRef) {
+        try {
+            return readFile(path, JSON_CODECS.type(valueTypeRef.getType()), JSON_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to read json file:" + path, e);
+        }
+    }
+
+    /**
+     * 通过内存映射读取xml文件并转换为对象
+     *
+     * @param path   文件路径
+     * @param tClass 对象类型
+     * @param <T>    T
+     * @return 对象
+     */
+    public static <T> T readFileWithXml(Path path, Class<T> tClass) {
+        try {
+            return readFile(path, XML_CODECS.type(tClass), XML_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to read xml file:" + path, e);
+        }
+    }
+
+    /**
+     * 通过内存映射读取xml文件并转换为嵌套对象
+     *
+     * @param path         文件路径
+     * @param valueTypeRef jackson 泛序列化时确定泛型的类
+     * @param <T>          T
+     * @return 对象
+     */
+    public static <T> T readFileWithXml(Path path, TypeReference<T> valueTypeRef) {
+        try {
+            return readFile(path, XML_CODECS.type(valueTypeRef.getType()), XML_CODECS);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to read xml file:" + path, e);
+        }
+    }
+
+    /**
+     * 逐个读取json数组的元素，每次只绑定一个元素，内存占用与数组大小无关<br/>
+     * <p1>根节点不是数组时按单个元素读取；迭代中的解析异常以RuntimeException抛出。不关闭输入流。</p1>
+     *
+     * @param in     输入流
+     * @param tClass 元素类型
+     * @param <T>    T
+     * @return 元素迭代器
+     */
+    public static <T> Iterator<T> readArray(InputStream in, Class<T> tClass) {
+        return readValues(in, tClass);
+    }
+
+    /**
+     * 逐个读取json数组的元素，每次只绑定一个元素，内存占用与数组大小无关，不关闭reader
+     *
+     * @param reader 字符流
+     * @param tClass 元素类型
+     * @param <T>    T
+     * @return 元素迭代器
+     */
+    public static <T> Iterator<T> readArray(Reader reader, Class<T> tClass) {
+        try {
+            return JSON_CODECS.reader(tClass).readValues(reader);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to read json array of " + tClass.getName(), e);
+        }
+    }
+
+    /**
+     * 创建json数组元素的MappingIterator
+     *
+     * @param in     输入流
+     * @param tClass 元素类型
+     * @param <T>    T
+     * @return MappingIterator
+     */
+    private static <T> MappingIterator<T> readValues(InputStream in, Class<T> tClass) {
+        try {
+            return JSON_CODECS.reader(tClass).readValues(in);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to read json array of " + tClass.getName(), e);
+        }
+    }
+
+    /**
+     * 以Stream逐个读取json数组的元素，关闭Stream时释放解析器，不关闭输入流
+     *
+     * @param in     输入流
+     * @param tClass 元素类型
+     * @param <T>    T
+     * @return 元素Stream
+     */
+    public static <T> Stream<T> streamArray(InputStream in, Class<T> tClass) {
+        return stream(readValues(in, tClass), null);
+    }
+
+    /**
+     * 以Stream逐个读取json数组的元素，关闭Stream时释放解析器，不关闭reader
+     *
+     * @param reader 字符流
+     * @param tClass 元素类型
+     * @param <T>    T
+     * @return 元素Stream
+     */
+    public static <T> Stream<T> streamArray(Reader reader, Class<T> tClass) {
+        try {
+            return stream(JSON_CODECS.reader(tClass).readValues(reader), null);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to read json array of " + tClass.getName(), e);
+        }
+    }
+
+    /**
+     * 以Stream逐个读取json文件中数组的元素，文件通过内存映射读取，需要在try-with-resources中使用，关闭Stream时关闭文件
+     *
+     * @param path   文件路径
+     * @param tClass 元素类型
+     * @param <T>    T
+     * @return 元素Stream
+     */
+    public static <T> Stream<T> streamArray(Path path, Class<T> tClass) {
+        InputStream in;
+        try {
+            in = new MappedFileInputStream(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("not able to open json file:" + path, e);
+        }
+        try {
+            return stream(readValues(in, tClass), in);
+        } catch (RuntimeException e) {
+            closeQuietly(in, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 可关闭的迭代器转为顺序Stream
+     *
+     * @param iterator 迭代器
+     * @param source   关闭Stream时一同关闭的来源，可以为null
+     * @param <T>      T
+     * @return Stream
+     */
+    private static <T, I extends Iterator<T> & AutoCloseable> Stream<T> stream(I iterator, AutoCloseable source) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        iterator.close();
+                        if (source != null) {
+                            source.close();
+                        }
+                    } catch (Exception e) {
+                        throw new RuntimeException("not able to close json stream", e);
+                    }
+                });
+    }
+
+    /**
+     * 创建非阻塞json读取器，数据块到达时通过{@link AsyncJsonReader#feed(ByteBuffer, Consumer)}喂入，
+     * 每个值完整后立即交付，根节点可以是连续的多个值。使用完需要close
+     *
+     * @param tClass 值类型
+     * @param <T>    T
+     * @return 非阻塞读取器
+     */
+    public static <T> AsyncJsonReader<T> asyncReader(Class<T> tClass) {
+        return asyncReader(tClass, false);
+    }
+
+    /**
+     * 创建非阻塞json数组读取器，根数组的每个元素完整后立即交付，适用于从NIO通道分块读取的大数组。使用完需要close
+     *
+     * @param tClass 元素类型
+     * @param <T>    T
+     * @return 非阻塞读取器
+     */
+    public static <T> AsyncJsonReader<T> asyncArrayReader(Class<T> tClass) {
+        return asyncReader(tClass, true);
+    }
+
+    private static <T> AsyncJsonReader<T> asyncReader(Class<T> tClass, boolean unwrapArray) {
+        try {
+            return new AsyncJsonReader<>(JSON_MAPPER.getFactory(), JSON_CODECS.reader(tClass), unwrapArray);
+        } catch (IOException e) {
+            throw new RuntimeException("not able to create async json reader of " + tClass.getName(), e);
+        }
+    }
+
+    /**
+     * 规范化缓存对应的json reader/writer缓存
+     *
+     * @param canonicalizer 字符串规范化缓存
+     * @return reader/writer缓存
+     */
+    private static ObjectCodecs codecs(StringCanonicalizer canonicalizer) {
+        return canonicalizer.codecs(() -> {
+            // 不注册生成的反序列化器，规范化需要经过jackson的属性反序列化器
+            ObjectMapper objectMapper = new ObjectMapper(new PooledFactories.Json());
+            configure(objectMapper);
+            return objectMapper;
+        });
+    }
+
+    /**
+     * json string转换为对象，字符串值经过规范化缓存，重复的值共享同一个实例
+     *
+     * @param jsonStr       json字符串
+     * @param tClass        对象类型
+     * @param canonicalizer 字符串规范化缓存，需要长期复用同一个实例
+     * @param <T>           T
+     * @return 对象
+     */
+    public static <T> T string2Bean(String jsonStr, Class<T> tClass, StringCanonicalizer canonicalizer) {
+        try {
+            return string2Bean(jsonStr, tClass, codecs(canonicalizer));
+        } catch (Exception e) {
+            throw new RuntimeException("not able to convert json string:" + jsonStr, e);
+        }
+    }
+
+    /**
+     * json string转换为泛型list，字符串值经过规范化缓存，重复的值共享同一个实例
+     *
+     * @param jsonStr       json字符串
+     * @param tClass        对象类型
+     * @param canonicalizer 字符串规范化缓存，需要长期复用同一个实例
+     * @param <T>           T
+     * @return 对象list
+     */
+    public static <T> List<T> string2List(String jsonStr, Class<T> tClass, StringCanonicalizer canonicalizer) {
+        try {
+            return string2List(jsonStr, tClass, codecs(canonicalizer));
+        } catch (Exception e) {
+            throw new RuntimeException("not able to convert json string:" + jsonStr, e);
+        }
+    }
+
+    /**
+     * 从输入流读取json嵌套对象，字符串值经过规范化缓存，不关闭输入流
+     *
+     * @param in            输入流
+     * @param valueTypeRef  jackson 泛序列化时确定泛型的类
+     * @param canonicalizer 字符串规范化缓存，需要长期复用同一个实例
+     * @param <T>           T
+     * @return 对象
+     */
+    public static <T> T read(InputStream in, TypeReference<T> valueTypeRef, StringCanonicalizer canonicalizer) {
+        ObjectCodecs codecs = codecs(canonicalizer);
+        try {
+            return read(in, codecs.type(valueTypeRef.getType()), codecs);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to read json stream to " + valueTypeRef.getType(), e);
+        }
+    }
+
+    /**
+     * 关闭资源，关闭异常附加到原异常上
+     *
+     * @param closeable 资源
+     * @param cause     原异常
+     */
+    private static void closeQuietly(AutoCloseable closeable, Throwable cause) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    /**
+     * 基于StAX逐个读取xml中指定名称的重复元素，每次只绑定一个元素，内存占用与文档大小无关<br/>
+     * <p1>适用于对账单这类包含大量重复记录的xml，使用完需要close，close不关闭输入流。</p1>
+     *
+     * @param in          输入流
+     * @param elementName 重复元素的名称（local name）
+     * @param tClass      元素类型
+     * @param <T>         T
+     * @return 元素迭代器
+     */
+    public static <T> XmlElementIterator<T> readElementsWithXml(InputStream in, String elementName, Class<T> tClass) {
+        try {
+            return new XmlElementIterator<>((XmlFactory) XML_MAPPER.getFactory(), XML_CODECS.reader(tClass), in, elementName);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to read xml element " + elementName, e);
+        }
+    }
+
+    /**
+     * 以Stream逐个读取xml中指定名称的重复元素，关闭Stream时释放解析器，不关闭输入流
+     *
+     * @param in          输入流
+     * @param elementName 重复元素的名称（local name）
+     * @param tClass      元素类型
+     * @param <T>         T
+     * @return 元素Stream
+     */
+    public static <T> Stream<T> streamElementsWithXml(InputStream in, String elementName, Class<T> tClass) {
+        return stream(readElementsWithXml(in, elementName, tClass), null);
+    }
+
+    /**
+     * 以Stream逐个读取xml文件中指定名称的重复元素，文件通过内存映射读取，需要在try-with-resources中使用，关闭Stream时关闭文件
+     *
+     * @param path        文件路径
+     * @param elementName 重复元素的名称（local name）
+     * @param tClass      元素类型
+     * @param <T>         T
+     * @return 元素Stream
+     */
+    public static <T> Stream<T> streamElementsWithXml(Path path, String elementName, Class<T> tClass) {
+        InputStream in;
+        try {
+            in = new MappedFileInputStream(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("not able to open xml file:" + path, e);
+        }
+        try {
+            return stream(readElementsWithXml(in, elementName, tClass), in);
+        } catch (RuntimeException e) {
+            closeQuietly(in, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 并行读取NDJSON（每行一个json），按输入顺序返回，使用公共ForkJoinPool，不关闭输入流
+     *
+     * @param in     输入流
+     * @param tClass 元素类型
+     * @param <T>    T
+     * @return 元素list
+     */
+    public static <T> List<T> readNdjson(InputStream in, Class<T> tClass) {
+        List<T> values = new ArrayList<>();
+        readNdjson(in, tClass, values::add, true, ForkJoinPool.commonPool());
+        return values;
+    }
+
+    /**
+     * 并行读取NDJSON（每行一个json），按块切分后在executor上并行反序列化，元素在调用线程上交给consumer，不关闭输入流
+     *
+     * @param in       输入流
+     * @param tClass   元素类型
+     * @param consumer 元素消费者
+     * @param ordered  是否按输入顺序交付
+     * @param executor 反序列化使用的executor
+     * @param <T>      T
+     */
+    public static <T> void readNdjson(InputStream in, Class<T> tClass, Consumer<? super T> consumer, boolean ordered,
+                                      Executor executor) {
+        int parallelism = executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        try {
+            NdjsonReader.read(in, JSON_CODECS.reader(tClass), consumer, executor, parallelism,
+                    NdjsonReader.DEFAULT_CHUNK_SIZE, ordered);
+        } catch (IOException e) {
+            throw new RuntimeException("not able to read ndjson of " + tClass.getName(), e);
+        }
+    }
+
+    /**
+     * 创建NDJSON writer，记录批量写入输出流，使用完需要close，close不关闭输出流
+     *
+     * @param out 输出流
+     * @return NDJSON writer
+     */
+    public static NdjsonWriter ndjsonWriter(OutputStream out) {
+        try {
+            return new NdjsonWriter(JSON_MAPPER, JSON_CODECS.writerFor(null), out);
+        } catch (IOException e) {
+            throw new RuntimeException("not able to create ndjson writer", e);
+        }
+    }
+
+    /**
+     * 以NDJSON格式批量写入多条记录，不关闭输出流
+     *
+     * @param values 记录
+     * @param out    输出流
+     */
+    public static void writeNdjson(Iterable<?> values, OutputStream out) {
+        try (NdjsonWriter writer = ndjsonWriter(out)) {
+            writer.writeAll(values);
+        } catch (IOException e) {
+            throw new RuntimeException("not able to write ndjson", e);
+        }
+    }
+
+    /**
+     * 在当前线程预热json和xml的序列化器、反序列化器，消除首次调用的延迟，建议在应用启动时调用
+     *
+     * @param types class或者泛型Type
+     * @return 预热结果
+     */
+    public static WarmUpReport warmUp(Collection<? extends Type> types) {
+        return warmUp(types, Runnable::run);
+    }
+
+    /**
+     * 在executor上并行预热json和xml的序列化器、反序列化器，等待全部完成后返回<br/>
+     * <p1>单个类型预热失败不影响其他类型，json和xml分别预热，失败原因分别记录在结果中。</p1>
+     *
+     * @param types    class或者泛型Type
+     * @param executor 执行预热的executor
+     * @return 预热结果
+     */
+    public static WarmUpReport warmUp(Collection<? extends Type> types, Executor executor) {
+        return warmUp(types, Collections.emptyMap(), executor);
+    }
+
+    /**
+     * 并行预热，loadFailures中扫描时无法加载的class直接记为失败
+     *
+     * @param types        class或者泛型Type
+     * @param loadFailures 无法加载的class -> 异常
+     * @param executor     执行预热的executor
+     * @return 预热结果
+     */
+    private static WarmUpReport warmUp(Collection<? extends Type> types, Map<Type, Throwable> loadFailures,
+                                       Executor executor) {
+        long start = System.nanoTime();
+        Map<Type, Throwable> jsonFailures = new ConcurrentHashMap<>();
+        Map<Type, Throwable> xmlFailures = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(types.size());
+        for (Type type : types) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                warmUp(JSON_CODECS, type, jsonFailures);
+                warmUp(XML_CODECS, type, xmlFailures);
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        List<Type> warmed = new ArrayList<>(types.size());
+        Map<Type, Throwable> failed = new LinkedHashMap<>(loadFailures);
+        Map<Type, Throwable> jsonFailed = new LinkedHashMap<>();
+        Map<Type, Throwable> xmlFailed = new LinkedHashMap<>();
+        for (Type type : types) {
+            Throwable jsonFailure = jsonFailures.get(type);
+            Throwable xmlFailure = xmlFailures.get(type);
+            if (jsonFailure != null) {
+                jsonFailed.put(type, jsonFailure);
+            }
+            if (xmlFailure != null) {
+                xmlFailed.put(type, xmlFailure);
+            }
+            if (jsonFailure == null && xmlFailure == null) {
+                warmed.add(type);
+            } else {
+                failed.put(type, jsonFailure != null ? jsonFailure : xmlFailure);
+            }
+        }
+        return new WarmUpReport(warmed, failed, jsonFailed, xmlFailed, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static void warmUp(ObjectCodecs codecs, Type type, Map<Type, Throwable> failures) {
+        try {
+            codecs.warmUp(type);
+        } catch (Throwable e) {
+            failures.put(type, e);
+        }
+    }
+
+    /**
+     * 扫描包下的全部具体class（不含接口、抽象类、注解和非静态内部类）并在executor上并行预热
+     *
+     * @param executor     执行预热的executor
+     * @param basePackages 包名
+     * @return 预热结果
+     */
+    public static WarmUpReport warmUpPackages(Executor executor, String... basePackages) {
+        Map<Type, Throwable> loadFailures = new LinkedHashMap<>();
+        return warmUp(scanClasses(loadFailures, basePackages), loadFailures, executor);
+    }
+
+    /**
+     * 扫描包下的全部具体class，只读取class元数据，不初始化class；单个class无法加载时记录到loadFailures，继续扫描
+     *
+     * @param loadFailures 无法加载的class -> 异常
+     * @param basePackages 包名
+     * @return class
+     */
+    private static List<Class<?>> scanClasses(Map<Type, Throwable> loadFailures, String... basePackages) {
+        ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+        MetadataReaderFactory readerFactory = new CachingMetadataReaderFactory(resolver);
+        List<Class<?>> classes = new ArrayList<>();
+        try {
+            for (String basePackage : basePackages) {
+                String pattern = PathMatchingResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX
+                        + ClassUtils.convertClassNameToResourcePath(basePackage) + "/**/*.class";
+                for (Resource resource : resolver.getResources(pattern)) {
+                    ClassMetadata metadata;
+                    try {
+                        metadata = readerFactory.getMetadataReader(resource).getClassMetadata();
+                    } catch (IOException | RuntimeException e) {
+                        loadFailures.put(new WarmUpReport.UnloadedClass(resource.getDescription()), e);
+                        continue;
+                    }
+                    if (metadata.isConcrete() && metadata.isIndependent() && !metadata.isAnnotation()
+                            && !metadata.getClassName().endsWith("package-info")) {
+                        try {
+                            classes.add(ClassUtils.forName(metadata.getClassName(), classLoader));
+                        } catch (ClassNotFoundException | LinkageError e) {
+                            // 依赖的可选类库不在classpath上
+                            loadFailures.put(new WarmUpReport.UnloadedClass(metadata.getClassName()), e);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("not able to scan packages " + String.join(",", basePackages), e);
+        }
+        return classes;
+    }
+
+    /**
+     * 获取ObjectMapper对应的reader/writer缓存
+     *
+     * @param objectMapper jackson转换对象
+     * @return 缓存，不是本工具类内置的ObjectMapper时返回null
+     */
+    private static ObjectCodecs codecs(ObjectMapper objectMapper) {
+        if (objectMapper == JSON_MAPPER) {
+            return JSON_CODECS;
+        }
+        if (objectMapper == XML_MAPPER) {
+            return XML_CODECS;
+        }
+        if (objectMapper == SMILE_MAPPER) {
+            return SMILE_CODECS;
+        }
+        if (objectMapper == CBOR_MAPPER) {
+            return CBOR_CODECS;
+        }
+        return null;
+    }
+
+    /**
+     * 创建JsonNode，不可变
+     *
+     * @param jsonStr
+     * @return
+     */
+    public static JsonNode createJsonNode(String jsonStr) {
+        try {
+            return JSON_MAPPER.readTree(jsonStr);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to convert JsonNode string:" + jsonStr, e);
+        }
+    }
+
+
+    /**
+     * 从json中提取多个路径的值，不构建完整的JsonNode树，全部路径提取到后立即停止解析<br/>
+     * <p1>路径格式：{@code $.header.traceId}、{@code items[0].id}；高频调用时使用{@link JsonPathExtractor#compile(String...)}
+     * 预先编译并调用{@link #extract(String, JsonPathExtractor)}。</p1>
+     *
+     * @param jsonStr json字符串
+     * @param paths   路径
+     * @return 路径 -> 值，不存在的路径不包含在结果中
+     */
+    public static Map<String, JsonNode> extract(String jsonStr, String... paths) {
+        return extract(jsonStr, JsonPathExtractor.compile(paths));
+    }
+
+    /**
+     * 使用预先编译的路径从json中提取值
+     *
+     * @param jsonStr   json字符串
+     * @param extractor 编译后的路径
+     * @return 路径 -> 值，不存在的路径不包含在结果中
+     */
+    public static Map<String, JsonNode> extract(String jsonStr, JsonPathExtractor extractor) {
+        try (JsonParser parser = JSON_MAPPER.getFactory().createParser(jsonStr)) {
+            return extractor.extract(parser);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to extract json string:" + jsonStr, e);
+        }
+    }
+
+    /**
+     * 使用预先编译的路径从json字节数组中提取值
+     *
+     * @param jsonBytes json字节数组
+     * @param extractor 编译后的路径
+     * @return 路径 -> 值，不存在的路径不包含在结果中
+     */
+    public static Map<String, JsonNode> extract(byte[] jsonBytes, JsonPathExtractor extractor) {
+        try (JsonParser parser = JSON_MAPPER.getFactory().createParser(jsonBytes)) {
+            return extractor.extract(parser);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to extract json bytes", e);
+        }
+    }
+
+    /**
+     * 使用预先编译的路径从输入流中提取值，提取完成后不再读取剩余内容，不关闭输入流
+     *
+     * @param in        输入流
+     * @param extractor 编译后的路径
+     * @return 路径 -> 值，不存在的路径不包含在结果中
+     */
+    public static Map<String, JsonNode> extract(InputStream in, JsonPathExtractor extractor) {
+        try (JsonParser parser = JSON_MAPPER.getFactory().createParser(in)) {
+            return extractor.extract(parser);
+        } catch (Exception e) {
+            throw new RuntimeException("not able to extract json stream", e);
+        }
+    }
 
     /**
      * 创建ObjectNode，JsonNode子类，可变
@@ -0,0 +1,218 @@
+package com.typhus.common.tools.convert;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * getter/setter访问器生成，优先使用LambdaMetafactory生成直接调用的函数式接口实现，
+ * 无法生成时（非public类、类加载器不可见等）退化为预先绑定的MethodHandle
+ *
+ * @author typhus-xxj
+ * @version Accessors.java, v 0.1 2026年10月18日 15:20 typhus-xxj Exp $
+ */
+final class Accessors {
+
+    /**
+     * 拥有完整权限的lookup，LambdaMetafactory生成的类挂在本类下
+     */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private Accessors() {
+    }
+
+    /**
+     * 生成getter访问器
+     *
+     * @param readMethod getter方法
+     * @return bean -> value
+     */
+    @SuppressWarnings("unchecked")
+    static Function<Object, Object> getter(Method readMethod) {
+        if (isLambdaCapable(readMethod)) {
+            try {
+                MethodHandle handle = LOOKUP.unreflect(readMethod);
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "apply",
+                        MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class),
+                        handle,
+                        MethodType.methodType(box(readMethod.getReturnType()), readMethod.getDeclaringClass()));
+                return (Function<Object, Object>) site.getTarget().invokeExact();
+            } catch (Throwable ignore) {
+                // 退化为MethodHandle
+            }
+        }
+        MethodHandle handle = unreflect(readMethod)
+                .asType(MethodType.methodType(Object.class, Object.class));
+        return bean -> {
+            try {
+                return handle.invokeExact(bean);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    /**
+     * 生成setter访问器
+     *
+     * @param writeMethod setter方法
+     * @return (bean, value) -> void
+     */
+    @SuppressWarnings("unchecked")
+    static BiConsumer<Object, Object> setter(Method writeMethod) {
+        if (isLambdaCapable(writeMethod)) {
+            try {
+                MethodHandle handle = LOOKUP.unreflect(writeMethod);
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "accept",
+                        MethodType.methodType(BiConsumer.class),
+                        MethodType.methodType(void.class, Object.class, Object.class),
+                        handle,
+                        MethodType.methodType(void.class, writeMethod.getDeclaringClass(),
+                                box(writeMethod.getParameterTypes()[0])));
+                return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+            } catch (Throwable ignore) {
+                // 退化为MethodHandle
+            }
+        }
+        MethodHandle handle = unreflect(writeMethod)
+                .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return (bean, value) -> {
+            try {
+                handle.invokeExact(bean, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    /**
+     * 生成无参构造器访问器
+     *
+     * @param constructor 无参构造器
+     * @return () -> new T()
+     */
+    @SuppressWarnings("unchecked")
+    static Supplier<Object> constructor(Constructor<?> constructor) {
+        Class<?> declaringClass = constructor.getDeclaringClass();
+        if (Modifier.isPublic(constructor.getModifiers()) && isVisible(declaringClass)) {
+            try {
+                MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "get",
+                        MethodType.methodType(Supplier.class),
+                        MethodType.methodType(Object.class),
+                        handle,
+                        MethodType.methodType(declaringClass));
+                return (Supplier<Object>) site.getTarget().invokeExact();
+            } catch (Throwable ignore) {
+                // 退化为MethodHandle
+            }
+        }
+        MethodHandle handle;
+        try {
+            if (!Modifier.isPublic(constructor.getModifiers()) || !Modifier.isPublic(declaringClass.getModifiers())) {
+                constructor.setAccessible(true);
+            }
+            handle = LOOKUP.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("not able to access constructor:" + constructor, e);
+        }
+        return () -> {
+            try {
+                return handle.invokeExact();
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    /**
+     * 将异常原样抛出，受检异常包装为{@link UndeclaredThrowableException}
+     *
+     * @param e 调用异常
+     * @return 用于throw语句
+     */
+    static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        throw new UndeclaredThrowableException(e);
+    }
+
+    /**
+     * 基本类型转换为包装类型
+     *
+     * @param type 类型
+     * @return 包装类型
+     */
+    static Class<?> box(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    /**
+     * 只有public类的public方法，并且涉及的类都是public且对当前类加载器可见时才能由LambdaMetafactory直接链接
+     *
+     * @param method 方法
+     * @return 是否可用LambdaMetafactory
+     */
+    static boolean isLambdaCapable(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(declaringClass.getModifiers())) {
+            return false;
+        }
+        return isVisible(declaringClass) && isVisible(method.getReturnType())
+                && (method.getParameterCount() == 0 || isVisible(method.getParameterTypes()[0]));
+    }
+
+    /**
+     * 类是否为public并且对当前类加载器可见
+     *
+     * @param type 类
+     * @return 是否可见
+     */
+    private static boolean isVisible(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        if (!Modifier.isPublic(type.getModifiers())) {
+            return false;
+        }
+        try {
+            return Class.forName(type.getName(), false, Accessors.class.getClassLoader()) == type;
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    /**
+     * 获取方法句柄，非public时先设置可访问
+     *
+     * @param method 方法
+     * @return 方法句柄
+     */
+    private static MethodHandle unreflect(Method method) {
+        try {
+            if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                method.setAccessible(true);
+            }
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("not able to access method:" + method, e);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.typhus.common.tools.convert;
+
+import org.springframework.beans.FatalBeanException;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 按(来源class, 目标class)缓存的属性拷贝器，浅拷贝<br/>
+ * <p1>属性匹配规则与Spring BeanUtils#copyProperties一致，区别在于匹配结果只计算一次，
+ * 之后每次拷贝直接执行预先生成的getter/setter访问器，不再经过PropertyDescriptor和反射调用；
+ * 如果存在编译期由{@link GenerateMapper}生成的{@link BeanMapper}，则直接使用生成的mapper。
+ * 类型不能直接赋值的同名属性，如果{@link TypeConverters}中有对应的转换器，在同一次拷贝中转换后赋值；
+ * 目标属性为基本类型而值为null时跳过该属性。
+ * 指定{@link CopyProfile}时，配置的属性范围和null处理在生成拷贝器时确定。
+ * </p1>
+ *
+ * @author typhus-xxj
+ * @version BeanCopier.java, v 0.1 2026年10月18日 15:40 typhus-xxj Exp $
+ * @see org.springframework.beans.BeanUtils#copyProperties(java.lang.Object, java.lang.Object)
+ */
+public final class BeanCopier {
+
+    /**
+     * 来源class -> (目标class -> 拷贝器)
+     */
+    private static final ClassValue<ConcurrentMap<Class<?>, BeanCopier>> CACHE =
+            new ClassValue<ConcurrentMap<Class<?>, BeanCopier>>() {
+                @Override
+                protected ConcurrentMap<Class<?>, BeanCopier> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    /**
+     * 来源class
+     */
+    private final Class<?> sourceType;
+
+    /**
+     * 目标class
+     */
+    private final Class<?> targetType;
+
+    /**
+     * 编译期生成的mapper，存在时直接使用，不存在时为null
+     */
+    private final BeanMapper<Object, Object> mapper;
+
+    /**
+     * 需要拷贝的属性名，仅用于异常信息
+     */
+    private final String[] names;
+
+    /**
+     * 来源属性getter，与setters一一对应
+     */
+    private final Function<Object, Object>[] getters;
+
+    /**
+     * 目标属性setter
+     */
+    private final BiConsumer<Object, Object>[] setters;
+
+    /**
+     * 类型转换器，类型可直接赋值的属性为null
+     */
+    private final Function<Object, Object>[] converters;
+
+    /**
+     * 遇到null值时是否跳过：目标属性为基本类型，或配置了跳过null
+     */
+    private final boolean[] skipNulls;
+
+    /**
+     * 生成时的类型转换器注册表版本
+     */
+    private final int version;
+
+    @SuppressWarnings("unchecked")
+    private BeanCopier(Class<?> sourceType, Class<?> targetType, CopyProfile profile) {
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.version = TypeConverters.version();
+        // 生成的mapper拷贝全部属性，只在没有配置时使用
+        this.mapper = profile == null ? BeanMappers.find(sourceType, targetType) : null;
+        BeanProperties sourceProperties = BeanProperties.of(sourceType);
+        List<BeanProperty> sources = new ArrayList<>();
+        List<BeanProperty> targets = new ArrayList<>();
+        List<Function<Object, Object>> typeConverters = new ArrayList<>();
+        for (BeanProperty targetProperty : BeanProperties.of(targetType).getProperties()) {
+            if (!targetProperty.isWritable() || (profile != null && !profile.accepts(targetProperty.getName()))) {
+                continue;
+            }
+            BeanProperty sourceProperty = sourceProperties.getProperty(targetProperty.getName());
+            if (sourceProperty == null || !sourceProperty.isReadable()) {
+                continue;
+            }
+            Function<Object, Object> converter = null;
+            if (isAssignable(sourceProperty.getReadMethod(), targetProperty.getWriteMethod())) {
+                // 生成的mapper已经处理了可直接赋值的属性
+                if (mapper != null) {
+                    continue;
+                }
+            } else {
+                converter = TypeConverters.find(sourceProperty.getType(), targetProperty.getType());
+                if (converter == null) {
+                    continue;
+                }
+            }
+            sources.add(sourceProperty);
+            targets.add(targetProperty);
+            typeConverters.add(converter);
+        }
+        int size = sources.size();
+        this.names = new String[size];
+        this.getters = new Function[size];
+        this.setters = new BiConsumer[size];
+        this.converters = typeConverters.toArray(new Function[0]);
+        this.skipNulls = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            names[i] = targets.get(i).getName();
+            getters[i] = sources.get(i).getter();
+            setters[i] = targets.get(i).setter();
+            skipNulls[i] = targets.get(i).getType().isPrimitive() || (profile != null && profile.isSkipNull());
+        }
+    }
+
+    /**
+     * 获取(来源class, 目标class)对应的拷贝器，首次获取时生成并缓存
+     *
+     * @param sourceType 来源class
+     * @param targetType 目标class
+     * @return 拷贝器
+     */
+    public static BeanCopier of(Class<?> sourceType, Class<?> targetType) {
+        return lookup(CACHE.get(sourceType), sourceType, targetType, null);
+    }
+
+    /**
+     * 获取(来源class, 目标class)在指定配置下的拷贝器，首次获取时生成并缓存在配置中
+     *
+     * @param sourceType 来源class
+     * @param targetType 目标class
+     * @param profile    部分拷贝配置
+     * @return 拷贝器
+     */
+    public static BeanCopier of(Class<?> sourceType, Class<?> targetType, CopyProfile profile) {
+        return lookup(profile.copiers.get(sourceType), sourceType, targetType, profile);
+    }
+
+    /**
+     * 从缓存获取拷贝器，不存在或类型转换器注册表有变化时生成
+     *
+     * @param copiers    目标class -> 拷贝器
+     * @param sourceType 来源class
+     * @param targetType 目标class
+     * @param profile    部分拷贝配置，可能为null
+     * @return 拷贝器
+     */
+    private static BeanCopier lookup(ConcurrentMap<Class<?>, BeanCopier> copiers, Class<?> sourceType,
+                                     Class<?> targetType, CopyProfile profile) {
+        BeanCopier copier = copiers.get(targetType);
+        if (copier == null) {
+            copier = copiers.computeIfAbsent(targetType, type -> new BeanCopier(sourceType, type, profile));
+        }
+        if (copier.version != TypeConverters.version()) {
+            // 注册了新的类型转换器，重新生成
+            copier = new BeanCopier(sourceType, targetType, profile);
+            copiers.put(targetType, copier);
+        }
+        return copier;
+    }
+
+    /**
+     * 按source和target的运行时class获取拷贝器并拷贝属性
+     *
+     * @param source 来源对象
+     * @param target 目标对象
+     */
+    public static void copyProperties(Object source, Object target) {
+        of(source.getClass(), target.getClass()).copy(source, target);
+    }
+
+    /**
+     * 将source的属性拷贝到target，浅拷贝
+     *
+     * @param source 来源对象
+     * @param target 目标对象
+     */
+    public void copy(Object source, Object target) {
+        if (mapper != null) {
+            try {
+                mapper.map(source, target);
+            } catch (Throwable e) {
+                throw new FatalBeanException("Could not copy properties from source to target", e);
+            }
+        }
+        int i = 0;
+        try {
+            for (; i < getters.length; i++) {
+                Object value = getters[i].apply(source);
+                if (value != null && converters[i] != null) {
+                    value = converters[i].apply(value);
+                }
+                if (value == null && skipNulls[i]) {
+                    continue;
+                }
+                setters[i].accept(target, value);
+            }
+        } catch (Throwable e) {
+            throw new FatalBeanException("Could not copy property '" + names[i] + "' from source to target", e);
+        }
+    }
+
+    public Class<?> getSourceType() {
+        return sourceType;
+    }
+
+    public Class<?> getTargetType() {
+        return targetType;
+    }
+
+    /**
+     * 是否使用编译期生成的mapper
+     *
+     * @return 是否使用生成的mapper
+     */
+    public boolean isGenerated() {
+        return mapper != null;
+    }
+
+    /**
+     * 与Spring BeanUtils#copyProperties相同的类型匹配规则：泛型可解析时按泛型判断，否则按原始类型判断
+     *
+     * @param readMethod  来源getter
+     * @param writeMethod 目标setter
+     * @return 是否可以直接赋值
+     */
+    static boolean isAssignable(Method readMethod, Method writeMethod) {
+        ResolvableType sourceResolvableType = ResolvableType.forMethodReturnType(readMethod);
+        ResolvableType targetResolvableType = ResolvableType.forMethodParameter(writeMethod, 0);
+        if (sourceResolvableType.hasUnresolvableGenerics() || targetResolvableType.hasUnresolvableGenerics()) {
+            return ClassUtils.isAssignable(writeMethod.getParameterTypes()[0], readMethod.getReturnType());
+        }
+        return targetResolvableType.isAssignableFrom(sourceResolvableType);
+    }
+}
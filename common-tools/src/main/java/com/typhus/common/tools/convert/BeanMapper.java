@@ -0,0 +1,34 @@
+package com.typhus.common.tools.convert;
+
+/**
+ * 编译期生成的属性拷贝实现，由{@link GenerateMapper}触发生成并通过ServiceLoader注册
+ *
+ * @param <F> 转化来源对象泛型
+ * @param <T> 转化后的对象泛型
+ * @author typhus-xxj
+ * @version BeanMapper.java, v 0.1 2026年10月18日 16:40 typhus-xxj Exp $
+ */
+public interface BeanMapper<F, T> {
+
+    /**
+     * 转化来源class
+     *
+     * @return 转化来源class
+     */
+    Class<F> sourceType();
+
+    /**
+     * 转化目标class
+     *
+     * @return 转化目标class
+     */
+    Class<T> targetType();
+
+    /**
+     * 将source的属性拷贝到target，浅拷贝
+     *
+     * @param source 来源对象
+     * @param target 目标对象
+     */
+    void map(F source, T target);
+}
@@ -0,0 +1,68 @@
+package com.typhus.common.tools.convert;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * 编译期生成的{@link BeanMapper}注册表，首次使用时通过ServiceLoader加载一次
+ *
+ * @author typhus-xxj
+ * @version BeanMappers.java, v 0.1 2026年10月18日 16:45 typhus-xxj Exp $
+ */
+final class BeanMappers {
+
+    /**
+     * 日志对象
+     */
+    private static final Logger logger = LoggerFactory.getLogger(BeanMappers.class);
+
+    /**
+     * 来源class -> (目标class -> mapper)
+     */
+    private static final Map<Class<?>, Map<Class<?>, BeanMapper<?, ?>>> MAPPERS = load();
+
+    private BeanMappers() {
+    }
+
+    /**
+     * 查找生成的mapper
+     *
+     * @param sourceType 来源class
+     * @param targetType 目标class
+     * @return mapper，不存在时返回null
+     */
+    @SuppressWarnings("unchecked")
+    static BeanMapper<Object, Object> find(Class<?> sourceType, Class<?> targetType) {
+        Map<Class<?>, BeanMapper<?, ?>> mappers = MAPPERS.get(sourceType);
+        return mappers == null ? null : (BeanMapper<Object, Object>) mappers.get(targetType);
+    }
+
+    /**
+     * 加载所有生成的mapper，单个mapper加载失败时跳过并退化为运行时拷贝
+     *
+     * @return 注册表
+     */
+    @SuppressWarnings("rawtypes")
+    private static Map<Class<?>, Map<Class<?>, BeanMapper<?, ?>>> load() {
+        Map<Class<?>, Map<Class<?>, BeanMapper<?, ?>>> result = new HashMap<>();
+        Iterator<BeanMapper> iterator = ServiceLoader.load(BeanMapper.class, BeanMapper.class.getClassLoader()).iterator();
+        while (true) {
+            try {
+                if (!iterator.hasNext()) {
+                    break;
+                }
+                BeanMapper<?, ?> mapper = iterator.next();
+                result.computeIfAbsent(mapper.sourceType(), k -> new HashMap<>()).put(mapper.targetType(), mapper);
+            } catch (ServiceConfigurationError e) {
+                logger.warn("load generated BeanMapper error", e);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,92 @@
+package com.typhus.common.tools.convert;
+
+import org.springframework.beans.BeanUtils;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 单个class的属性索引，按class缓存，每个class只解析一次PropertyDescriptor
+ *
+ * @author typhus-xxj
+ * @version BeanProperties.java, v 0.1 2026年10月18日 15:35 typhus-xxj Exp $
+ */
+public final class BeanProperties {
+
+    /**
+     * class -> 属性索引
+     */
+    private static final ClassValue<BeanProperties> CACHE = new ClassValue<BeanProperties>() {
+        @Override
+        protected BeanProperties computeValue(Class<?> type) {
+            return new BeanProperties(type);
+        }
+    };
+
+    /**
+     * 所属class
+     */
+    private final Class<?> type;
+
+    /**
+     * 属性列表，顺序与Spring BeanUtils#getPropertyDescriptors一致
+     */
+    private final List<BeanProperty> properties;
+
+    /**
+     * 属性名 -> 属性
+     */
+    private final Map<String, BeanProperty> propertyMap;
+
+    private BeanProperties(Class<?> type) {
+        this.type = type;
+        PropertyDescriptor[] descriptors = BeanUtils.getPropertyDescriptors(type);
+        List<BeanProperty> list = new ArrayList<>(descriptors.length);
+        Map<String, BeanProperty> map = new HashMap<>(descriptors.length * 4 / 3 + 1);
+        for (PropertyDescriptor descriptor : descriptors) {
+            BeanProperty property = new BeanProperty(descriptor.getName(), descriptor.getPropertyType(),
+                    descriptor.getReadMethod(), descriptor.getWriteMethod());
+            list.add(property);
+            map.put(property.getName(), property);
+        }
+        this.properties = Collections.unmodifiableList(list);
+        this.propertyMap = map;
+    }
+
+    /**
+     * 获取class的属性索引
+     *
+     * @param type class
+     * @return 属性索引
+     */
+    public static BeanProperties of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * 全部属性
+     *
+     * @return 属性列表
+     */
+    public List<BeanProperty> getProperties() {
+        return properties;
+    }
+
+    /**
+     * 按名称获取属性
+     *
+     * @param name 属性名
+     * @return 属性，不存在时返回null
+     */
+    public BeanProperty getProperty(String name) {
+        return propertyMap.get(name);
+    }
+}
@@ -0,0 +1,109 @@
+package com.typhus.common.tools.convert;
+
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * bean的单个属性，持有预先生成的getter/setter访问器，访问器在首次使用时生成
+ *
+ * @author typhus-xxj
+ * @version BeanProperty.java, v 0.1 2026年10月18日 15:30 typhus-xxj Exp $
+ */
+public final class BeanProperty {
+
+    /**
+     * 属性名
+     */
+    private final String name;
+
+    /**
+     * 属性类型
+     */
+    private final Class<?> type;
+
+    /**
+     * getter方法，可能为null
+     */
+    private final Method readMethod;
+
+    /**
+     * setter方法，可能为null
+     */
+    private final Method writeMethod;
+
+    /**
+     * getter访问器
+     */
+    private volatile Function<Object, Object> getter;
+
+    /**
+     * setter访问器
+     */
+    private volatile BiConsumer<Object, Object> setter;
+
+    BeanProperty(String name, Class<?> type, Method readMethod, Method writeMethod) {
+        this.name = name;
+        this.type = type;
+        this.readMethod = readMethod;
+        this.writeMethod = writeMethod;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public Method getReadMethod() {
+        return readMethod;
+    }
+
+    public Method getWriteMethod() {
+        return writeMethod;
+    }
+
+    public boolean isReadable() {
+        return readMethod != null;
+    }
+
+    public boolean isWritable() {
+        return writeMethod != null;
+    }
+
+    /**
+     * 获取getter访问器
+     *
+     * @return getter访问器
+     */
+    public Function<Object, Object> getter() {
+        Function<Object, Object> result = getter;
+        if (result == null) {
+            if (readMethod == null) {
+                throw new IllegalStateException("property '" + name + "' is not readable");
+            }
+            result = Accessors.getter(readMethod);
+            getter = result;
+        }
+        return result;
+    }
+
+    /**
+     * 获取setter访问器
+     *
+     * @return setter访问器
+     */
+    public BiConsumer<Object, Object> setter() {
+        BiConsumer<Object, Object> result = setter;
+        if (result == null) {
+            if (writeMethod == null) {
+                throw new IllegalStateException("property '" + name + "' is not writable");
+            }
+            result = Accessors.setter(writeMethod);
+            setter = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,54 @@
+package com.typhus.common.tools.convert;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * 惰性转换的iterator，每次next时才转换一个元素，跳过来源中的null元素
+ *
+ * @param <F> 转化来源对象泛型
+ * @param <T> 转化后的对象泛型
+ * @author typhus-xxj
+ * @version ConvertIterator.java, v 0.1 2026年10月18日 17:50 typhus-xxj Exp $
+ */
+public final class ConvertIterator<F, T> implements Iterator<T> {
+
+    /**
+     * 来源iterator
+     */
+    private final Iterator<F> source;
+
+    /**
+     * F转化成T的具体实现
+     */
+    private final Function<F, T> function;
+
+    /**
+     * 预读的下一个非null来源元素
+     */
+    private F next;
+
+    public ConvertIterator(Iterator<F> source, Function<F, T> function) {
+        this.source = source;
+        this.function = function;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && source.hasNext()) {
+            next = source.next();
+        }
+        return next != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        F current = next;
+        next = null;
+        return function.apply(current);
+    }
+}
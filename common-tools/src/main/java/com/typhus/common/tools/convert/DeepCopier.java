@@ -0,0 +1,456 @@
+package com.typhus.common.tools.convert;
+
+import org.springframework.beans.FatalBeanException;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * 按(来源class, 目标class)缓存的深度拷贝器<br/>
+ * <p1>类型可以直接赋值的属性与{@link BeanCopier}一样按引用拷贝；同名但类型不同的bean、集合、map、数组属性，
+ * 在生成拷贝器时一次性解析泛型元素类型并确定嵌套转换方式（包括{@link TypeConverters}中的元素类型转换），
+ * 转换时嵌套bean复用缓存的拷贝器。
+ * 一次转换内用IdentityHashMap记录已转换的来源对象，共享引用只转换一次，循环引用转换为同样的循环。
+ * </p1>
+ *
+ * @author typhus-xxj
+ * @version DeepCopier.java, v 0.1 2026年10月18日 18:10 typhus-xxj Exp $
+ */
+public final class DeepCopier {
+
+    /**
+     * 来源class -> (目标class -> 深度拷贝器)
+     */
+    private static final ClassValue<ConcurrentMap<Class<?>, DeepCopier>> CACHE =
+            new ClassValue<ConcurrentMap<Class<?>, DeepCopier>>() {
+                @Override
+                protected ConcurrentMap<Class<?>, DeepCopier> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    /**
+     * 目标集合、map、数组的泛型类型描述 -> visited中登记该类型转换结果的key
+     */
+    private static final ConcurrentMap<String, Object> SCOPES = new ConcurrentHashMap<>();
+
+    /**
+     * 直接赋值：类型可以直接赋值
+     */
+    private static final ValueMapper IDENTITY = (value, visited) -> value;
+
+    /**
+     * 类型可以直接赋值的属性的浅拷贝器
+     */
+    private final BeanCopier shallow;
+
+    /**
+     * 需要嵌套转换的属性名，仅用于异常信息
+     */
+    private final String[] names;
+
+    /**
+     * 来源属性getter
+     */
+    private final Function<Object, Object>[] getters;
+
+    /**
+     * 目标属性setter
+     */
+    private final BiConsumer<Object, Object>[] setters;
+
+    /**
+     * 属性值的嵌套转换方式
+     */
+    private final ValueMapper[] mappers;
+
+    /**
+     * 生成时的类型转换器注册表版本
+     */
+    private final int version;
+
+    @SuppressWarnings("unchecked")
+    private DeepCopier(Class<?> sourceType, Class<?> targetType) {
+        this.version = TypeConverters.version();
+        this.shallow = BeanCopier.of(sourceType, targetType);
+        BeanProperties sourceProperties = BeanProperties.of(sourceType);
+        List<BeanProperty> sources = new ArrayList<>();
+        List<BeanProperty> targets = new ArrayList<>();
+        List<ValueMapper> valueMappers = new ArrayList<>();
+        for (BeanProperty targetProperty : BeanProperties.of(targetType).getProperties()) {
+            if (!targetProperty.isWritable()) {
+                continue;
+            }
+            BeanProperty sourceProperty = sourceProperties.getProperty(targetProperty.getName());
+            if (sourceProperty == null || !sourceProperty.isReadable()
+                    || BeanCopier.isAssignable(sourceProperty.getReadMethod(), targetProperty.getWriteMethod())
+                    || TypeConverters.find(sourceProperty.getType(), targetProperty.getType()) != null) {
+                // 浅拷贝器已经处理
+                continue;
+            }
+            ValueMapper mapper = mapper(ResolvableType.forMethodReturnType(sourceProperty.getReadMethod(), sourceType),
+                    ResolvableType.forMethodParameter(targetProperty.getWriteMethod(), 0, targetType));
+            if (mapper != null) {
+                sources.add(sourceProperty);
+                targets.add(targetProperty);
+                valueMappers.add(mapper);
+            }
+        }
+        int size = sources.size();
+        this.names = new String[size];
+        this.getters = new Function[size];
+        this.setters = new BiConsumer[size];
+        this.mappers = valueMappers.toArray(new ValueMapper[0]);
+        for (int i = 0; i < size; i++) {
+            names[i] = targets.get(i).getName();
+            getters[i] = sources.get(i).getter();
+            setters[i] = targets.get(i).setter();
+        }
+    }
+
+    /**
+     * 获取(来源class, 目标class)对应的深度拷贝器，首次获取时生成并缓存
+     *
+     * @param sourceType 来源class
+     * @param targetType 目标class
+     * @return 深度拷贝器
+     */
+    public static DeepCopier of(Class<?> sourceType, Class<?> targetType) {
+        ConcurrentMap<Class<?>, DeepCopier> copiers = CACHE.get(sourceType);
+        DeepCopier copier = copiers.get(targetType);
+        if (copier == null) {
+            copier = copiers.computeIfAbsent(targetType, type -> new DeepCopier(sourceType, type));
+        }
+        if (copier.version != TypeConverters.version()) {
+            // 注册了新的类型转换器，重新生成
+            copier = new DeepCopier(sourceType, targetType);
+            copiers.put(targetType, copier);
+        }
+        return copier;
+    }
+
+    /**
+     * 深度转换source为type对象
+     *
+     * @param source 来源对象
+     * @param type   目标class
+     * @param <T>    目标对象泛型
+     * @return 转换后的对象，source为null时返回null
+     */
+    public static <T> T convert(Object source, Class<T> type) {
+        return convert(source, type, new IdentityHashMap<>());
+    }
+
+    /**
+     * 深度转换source为type对象，visited在多次调用间共享时，共享引用在多次调用间也只转换一次<br/>
+     * <p1>bean、集合、map、数组都按引用登记到visited，visited需要是IdentityHashMap这类按引用比较的map。
+     * 集合、map、数组按目标泛型类型分别登记，同一个来源集合转换为不同元素类型的目标时互不复用。</p1>
+     *
+     * @param source  来源对象
+     * @param type    目标class
+     * @param visited 来源对象 -> 已转换的目标对象
+     * @param <T>     目标对象泛型
+     * @return 转换后的对象，source为null时返回null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T convert(Object source, Class<T> type, Map<Object, Object> visited) {
+        if (source == null) {
+            return null;
+        }
+        Object existing = visited.get(source);
+        if (existing != null && type.isInstance(existing)) {
+            return (T) existing;
+        }
+        T target = Instantiators.of(type).get();
+        visited.put(source, target);
+        of(source.getClass(), type).copy(source, target, visited);
+        return target;
+    }
+
+    /**
+     * 将source的属性深度拷贝到target
+     *
+     * @param source  来源对象
+     * @param target  目标对象
+     * @param visited 来源对象 -> 已转换的目标对象
+     */
+    public void copy(Object source, Object target, Map<Object, Object> visited) {
+        shallow.copy(source, target);
+        int i = 0;
+        try {
+            for (; i < mappers.length; i++) {
+                Object value = getters[i].apply(source);
+                setters[i].accept(target, value == null ? null : mappers[i].map(value, visited));
+            }
+        } catch (Throwable e) {
+            throw new FatalBeanException("Could not deep copy property '" + names[i] + "' from source to target", e);
+        }
+    }
+
+    /**
+     * 根据来源类型和目标类型确定转换方式
+     *
+     * @param sourceType 来源类型
+     * @param targetType 目标类型
+     * @return 转换方式，无法转换时返回null
+     */
+    private static ValueMapper mapper(ResolvableType sourceType, ResolvableType targetType) {
+        Class<?> targetClass = targetType.resolve();
+        if (targetClass == null) {
+            return null;
+        }
+        Class<?> sourceClass = sourceType.resolve(Object.class);
+        if (ClassUtils.isAssignable(targetClass, sourceClass)
+                && (!targetType.hasGenerics() || targetType.isAssignableFrom(sourceType))) {
+            return IDENTITY;
+        }
+        boolean sourceIsMulti = sourceClass.isArray() || Collection.class.isAssignableFrom(sourceClass);
+        if (targetClass.isArray()) {
+            if (!sourceIsMulti) {
+                return null;
+            }
+            ValueMapper element = mapper(elementType(sourceType), targetType.getComponentType());
+            return element == null ? null : arrayMapper(scope(targetType), targetClass.getComponentType(), element);
+        }
+        if (Collection.class.isAssignableFrom(targetClass)) {
+            if (!sourceIsMulti) {
+                return null;
+            }
+            ValueMapper element = mapper(elementType(sourceType), targetType.asCollection().getGeneric(0));
+            return element == null ? null : collectionMapper(scope(targetType), collectionFactory(targetClass), element);
+        }
+        if (Map.class.isAssignableFrom(targetClass)) {
+            if (!Map.class.isAssignableFrom(sourceClass)) {
+                return null;
+            }
+            ResolvableType sourceMap = sourceType.asMap();
+            ResolvableType targetMap = targetType.asMap();
+            ValueMapper key = mapper(sourceMap.getGeneric(0), targetMap.getGeneric(0));
+            ValueMapper value = mapper(sourceMap.getGeneric(1), targetMap.getGeneric(1));
+            return key == null || value == null ? null : mapMapper(scope(targetType), mapFactory(targetClass), key, value);
+        }
+        Function<Object, Object> converter = TypeConverters.find(sourceClass, targetClass);
+        if (converter != null) {
+            return (source, visited) -> converter.apply(source);
+        }
+        if (isBean(targetClass)) {
+            return (source, visited) -> targetClass.isInstance(source) ? source : convert(source, targetClass, visited);
+        }
+        return null;
+    }
+
+    /**
+     * 集合或数组的元素类型
+     *
+     * @param type 集合或数组类型
+     * @return 元素类型，无法解析时为Object
+     */
+    private static ResolvableType elementType(ResolvableType type) {
+        if (type.isArray()) {
+            return type.getComponentType();
+        }
+        return type.asCollection().getGeneric(0);
+    }
+
+    /**
+     * 目标类型对应的登记key，泛型类型描述相同的目标（元素类型、集合实现都相同）共用同一个key
+     *
+     * @param targetType 目标集合、map、数组类型
+     * @return 登记key
+     */
+    private static Object scope(ResolvableType targetType) {
+        return SCOPES.computeIfAbsent(targetType.toString(), type -> new Object());
+    }
+
+    /**
+     * visited中scope对应的来源对象 -> 已转换的目标对象
+     *
+     * @param visited 来源对象 -> 已转换的目标对象
+     * @param scope   目标类型的登记key
+     * @return 该目标类型的转换结果
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> converted(Map<Object, Object> visited, Object scope) {
+        Map<Object, Object> converted = (Map<Object, Object>) visited.get(scope);
+        if (converted == null) {
+            converted = new IdentityHashMap<>();
+            visited.put(scope, converted);
+        }
+        return converted;
+    }
+
+    private static ValueMapper arrayMapper(Object scope, Class<?> componentType, ValueMapper element) {
+        return (source, visited) -> {
+            Map<Object, Object> converted = converted(visited, scope);
+            Object existing = converted.get(source);
+            if (existing != null) {
+                return existing;
+            }
+            if (source.getClass().isArray()) {
+                int length = Array.getLength(source);
+                Object result = Array.newInstance(componentType, length);
+                converted.put(source, result);
+                for (int i = 0; i < length; i++) {
+                    Object item = Array.get(source, i);
+                    Array.set(result, i, item == null ? null : element.map(item, visited));
+                }
+                return result;
+            }
+            Collection<?> collection = (Collection<?>) source;
+            Object result = Array.newInstance(componentType, collection.size());
+            converted.put(source, result);
+            int i = 0;
+            for (Object item : collection) {
+                Array.set(result, i++, item == null ? null : element.map(item, visited));
+            }
+            return result;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ValueMapper collectionMapper(Object scope, IntFunction<Collection<Object>> factory,
+                                                ValueMapper element) {
+        return (source, visited) -> {
+            Map<Object, Object> converted = converted(visited, scope);
+            Object existing = converted.get(source);
+            if (existing != null) {
+                return existing;
+            }
+            if (source.getClass().isArray()) {
+                int length = Array.getLength(source);
+                Collection<Object> result = factory.apply(length);
+                converted.put(source, result);
+                for (int i = 0; i < length; i++) {
+                    Object item = Array.get(source, i);
+                    result.add(item == null ? null : element.map(item, visited));
+                }
+                return result;
+            }
+            Collection<Object> collection = (Collection<Object>) source;
+            Collection<Object> result = factory.apply(collection.size());
+            converted.put(source, result);
+            for (Object item : collection) {
+                result.add(item == null ? null : element.map(item, visited));
+            }
+            return result;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ValueMapper mapMapper(Object scope, IntFunction<Map<Object, Object>> factory, ValueMapper key,
+                                         ValueMapper value) {
+        return (source, visited) -> {
+            Map<Object, Object> converted = converted(visited, scope);
+            Object existing = converted.get(source);
+            if (existing != null) {
+                return existing;
+            }
+            Map<Object, Object> map = (Map<Object, Object>) source;
+            Map<Object, Object> result = factory.apply(map.size());
+            // 先登记再填充元素，自引用的map和共享的map只转换一次
+            converted.put(source, result);
+            for (Map.Entry<Object, Object> entry : map.entrySet()) {
+                Object k = entry.getKey();
+                Object v = entry.getValue();
+                result.put(k == null ? null : key.map(k, visited), v == null ? null : value.map(v, visited));
+            }
+            return result;
+        };
+    }
+
+    /**
+     * 目标集合的创建方式，接口使用常用实现，具体类使用缓存的无参构造器
+     *
+     * @param type 目标集合class
+     * @return size -> 集合
+     */
+    @SuppressWarnings("unchecked")
+    private static IntFunction<Collection<Object>> collectionFactory(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            if (SortedSet.class == type || NavigableSet.class == type) {
+                return size -> new TreeSet<>();
+            }
+            if (Set.class == type) {
+                return LinkedHashSet::new;
+            }
+            if (Queue.class.isAssignableFrom(type)) {
+                return ArrayDeque::new;
+            }
+            return ArrayList::new;
+        }
+        Supplier<Collection<Object>> instantiator = Instantiators.of((Class<Collection<Object>>) type);
+        return size -> instantiator.get();
+    }
+
+    /**
+     * 目标map的创建方式，接口使用常用实现，具体类使用缓存的无参构造器
+     *
+     * @param type 目标map class
+     * @return size -> map
+     */
+    @SuppressWarnings("unchecked")
+    private static IntFunction<Map<Object, Object>> mapFactory(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            if (SortedMap.class == type || NavigableMap.class == type) {
+                return size -> new TreeMap<>();
+            }
+            return size -> new LinkedHashMap<>(size * 4 / 3 + 1);
+        }
+        Supplier<Map<Object, Object>> instantiator = Instantiators.of((Class<Map<Object, Object>>) type);
+        return size -> instantiator.get();
+    }
+
+    /**
+     * 是否是可以嵌套转换的bean：非JDK类型、非枚举、可以实例化
+     *
+     * @param type class
+     * @return 是否是bean
+     */
+    private static boolean isBean(Class<?> type) {
+        if (type.isPrimitive() || type.isEnum() || type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            return false;
+        }
+        String name = type.getName();
+        return !name.startsWith("java.") && !name.startsWith("javax.");
+    }
+
+    /**
+     * 属性值的转换方式
+     */
+    @FunctionalInterface
+    interface ValueMapper {
+
+        /**
+         * 转换非null的属性值
+         *
+         * @param value   来源值
+         * @param visited 来源对象 -> 已转换的目标对象
+         * @return 转换后的值
+         */
+        Object map(Object value, Map<Object, Object> visited);
+    }
+}
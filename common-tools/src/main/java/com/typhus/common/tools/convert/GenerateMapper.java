@@ -0,0 +1,27 @@
+package com.typhus.common.tools.convert;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标注在转化来源class上，编译期由common-processor为(来源class, targets中的每个class)生成{@link BeanMapper}实现，
+ * 生成的代码直接调用getter/setter，{@link BeanCopier}获取拷贝器时优先使用生成的mapper
+ *
+ * @author typhus-xxj
+ * @version GenerateMapper.java, v 0.1 2026年10月18日 16:40 typhus-xxj Exp $
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateMapper {
+
+    /**
+     * 转化目标class
+     *
+     * @return 转化目标class
+     */
+    Class<?>[] targets();
+}
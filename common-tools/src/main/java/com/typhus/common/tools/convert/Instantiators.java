@@ -0,0 +1,66 @@
+package com.typhus.common.tools.convert;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
+
+/**
+ * 按class缓存的目标对象创建器，代替每次调用{@code type.getDeclaredConstructor().newInstance()}<br/>
+ * <p1>创建器在首次获取时通过LambdaMetafactory（或MethodHandle）生成，之后每次创建对象都是直接调用构造器；
+ * class没有可用的无参构造器时在获取创建器时立即失败，而不是在转换每个元素时失败。
+ * </p1>
+ *
+ * @author typhus-xxj
+ * @version Instantiators.java, v 0.1 2026年10月18日 16:10 typhus-xxj Exp $
+ */
+public final class Instantiators {
+
+    /**
+     * class -> 创建器
+     */
+    private static final ClassValue<Supplier<Object>> CACHE = new ClassValue<Supplier<Object>>() {
+        @Override
+        protected Supplier<Object> computeValue(Class<?> type) {
+            return Accessors.constructor(noArgConstructor(type));
+        }
+    };
+
+    private Instantiators() {
+    }
+
+    /**
+     * 获取class对应的创建器
+     * 如果class没有可用的无参构造器会抛出{@link IllegalArgumentException}
+     *
+     * @param type 目标class
+     * @param <T>  目标对象泛型
+     * @return 创建器
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Supplier<T> of(Class<T> type) {
+        return (Supplier<T>) CACHE.get(type);
+    }
+
+    /**
+     * 查找无参构造器
+     *
+     * @param type class
+     * @return 无参构造器
+     */
+    private static Constructor<?> noArgConstructor(Class<?> type) {
+        if (type.isInterface() || type.isArray() || type.isPrimitive() || Modifier.isAbstract(type.getModifiers())) {
+            throw new IllegalArgumentException("not able to instantiate " + type.getName()
+                    + ": is an interface, array, primitive or abstract class");
+        }
+        if (type.isMemberClass() && !Modifier.isStatic(type.getModifiers())) {
+            throw new IllegalArgumentException("not able to instantiate " + type.getName()
+                    + ": is a non-static inner class");
+        }
+        try {
+            return type.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("not able to instantiate " + type.getName()
+                    + ": no no-arg constructor", e);
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package com.typhus.common.tools.convert;
+
+import org.springframework.beans.FatalBeanException;
+import org.springframework.core.ResolvableType;
+
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Map与bean互转，不经过JSON文本<br/>
+ * <p1>每个class只生成一次属性索引：可读属性按顺序保存getter，可写属性按属性名哈希到setter槽位，
+ * 与bean拷贝器共用{@link BeanProperties}的访问器。
+ * map值类型与属性类型不一致时，数值之间按Number精确转换（溢出或者丢失小数部分时抛出异常），
+ * 其余类型使用{@link TypeConverters}，没有可用的转换器时抛出异常；
+ * 集合属性的元素按声明的泛型类型转换，元素为map而元素类型为bean时转换为bean，无法转换的元素抛出异常，不会把元素类型不符的集合直接写入；
+ * null值不会写入基本类型属性，map中不存在的属性保持不变。
+ * </p1>
+ *
+ * @author typhus-xxj
+ * @version MapCopier.java, v 0.1 2026年10月18日 20:15 typhus-xxj Exp $
+ */
+public final class MapCopier {
+
+    /**
+     * class -> map拷贝器
+     */
+    private static final ClassValue<MapCopier> CACHE = new ClassValue<MapCopier>() {
+        @Override
+        protected MapCopier computeValue(Class<?> type) {
+            return new MapCopier(type);
+        }
+    };
+
+    /**
+     * 可读属性名
+     */
+    private final String[] names;
+
+    /**
+     * 可读属性getter，与names一一对应
+     */
+    private final Function<Object, Object>[] getters;
+
+    /**
+     * 属性名 -> 可写属性槽位
+     */
+    private final Map<String, Slot> slots;
+
+    @SuppressWarnings("unchecked")
+    private MapCopier(Class<?> type) {
+        List<BeanProperty> properties = BeanProperties.of(type).getProperties();
+        List<BeanProperty> readable = new ArrayList<>(properties.size());
+        Map<String, Slot> writable = new HashMap<>(properties.size() * 4 / 3 + 1);
+        for (BeanProperty property : properties) {
+            if (property.isReadable() && property.getReadMethod().getDeclaringClass() != Object.class) {
+                readable.add(property);
+            }
+            if (property.isWritable()) {
+                writable.put(property.getName(), new Slot(type, property));
+            }
+        }
+        this.names = new String[readable.size()];
+        this.getters = new Function[readable.size()];
+        for (int i = 0; i < readable.size(); i++) {
+            names[i] = readable.get(i).getName();
+            getters[i] = readable.get(i).getter();
+        }
+        this.slots = writable;
+    }
+
+    /**
+     * 获取class的map拷贝器
+     *
+     * @param type bean class
+     * @return map拷贝器
+     */
+    public static MapCopier of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * 将bean的可读属性写入新的LinkedHashMap，顺序与属性顺序一致，null值同样写入
+     *
+     * @param bean bean
+     * @return 属性名 -> 属性值
+     */
+    public Map<String, Object> toMap(Object bean) {
+        Map<String, Object> map = new LinkedHashMap<>(names.length * 4 / 3 + 1);
+        int i = 0;
+        try {
+            for (; i < getters.length; i++) {
+                map.put(names[i], getters[i].apply(bean));
+            }
+        } catch (Throwable e) {
+            throw new FatalBeanException("Could not read property '" + names[i] + "' from bean", e);
+        }
+        return map;
+    }
+
+    /**
+     * 将map中与可写属性同名的值写入bean，不存在的属性忽略
+     *
+     * @param map  属性名 -> 属性值
+     * @param bean 目标bean
+     */
+    public void copy(Map<String, ?> map, Object bean) {
+        for (Map.Entry<String, ?> entry : map.entrySet()) {
+            Slot slot = slots.get(entry.getKey());
+            if (slot != null) {
+                slot.set(bean, entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * 可写属性槽位
+     */
+    private static final class Slot {
+
+        private final String name;
+
+        private final BiConsumer<Object, Object> setter;
+
+        /**
+         * 属性类型，基本类型已装箱
+         */
+        private final Class<?> type;
+
+        private final boolean primitive;
+
+        /**
+         * 集合属性声明的元素类型，已装箱；不是集合属性或者元素类型为Object时为null
+         */
+        private final Class<?> elementType;
+
+        /**
+         * 最近一次使用的转换器，map中同一属性的值类型通常是固定的
+         */
+        private volatile Conversion conversion;
+
+        /**
+         * 最近一次使用的元素转换器
+         */
+        private volatile Conversion elementConversion;
+
+        Slot(Class<?> beanType, BeanProperty property) {
+            this.name = property.getName();
+            this.setter = property.setter();
+            this.type = Accessors.box(property.getType());
+            this.primitive = property.getType().isPrimitive();
+            Class<?> element = null;
+            if (Collection.class.isAssignableFrom(type)) {
+                element = ResolvableType.forMethodParameter(property.getWriteMethod(), 0, beanType)
+                        .asCollection().resolveGeneric(0);
+            }
+            this.elementType = element == null || element == Object.class ? null : Accessors.box(element);
+        }
+
+        void set(Object bean, Object value) {
+            if (value == null) {
+                if (primitive) {
+                    return;
+                }
+            } else if (!type.isInstance(value)) {
+                value = convert(value);
+            } else if (elementType != null) {
+                value = convertElements((Collection<?>) value);
+            }
+            try {
+                setter.accept(bean, value);
+            } catch (Throwable e) {
+                throw new FatalBeanException("Could not write property '" + name + "' to bean", e);
+            }
+        }
+
+        private Object convert(Object value) {
+            Class<?> valueType = value.getClass();
+            Conversion current = conversion;
+            if (current == null || current.sourceType != valueType || current.version != TypeConverters.version()) {
+                current = conversion(valueType, type, value instanceof Number);
+                conversion = current;
+            }
+            return current.apply(name, value, type);
+        }
+
+        /**
+         * 元素类型都符合时原样返回，否则转换为新的集合
+         *
+         * @param values 集合属性值
+         * @return 元素类型都符合的集合
+         */
+        private Collection<?> convertElements(Collection<?> values) {
+            boolean matched = true;
+            for (Object value : values) {
+                if (value != null && !elementType.isInstance(value)) {
+                    matched = false;
+                    break;
+                }
+            }
+            if (matched) {
+                return values;
+            }
+            Collection<Object> result;
+            if (type.isAssignableFrom(ArrayList.class)) {
+                result = new ArrayList<>(values.size());
+            } else if (type.isAssignableFrom(LinkedHashSet.class)) {
+                result = new LinkedHashSet<>(values.size() * 4 / 3 + 1);
+            } else {
+                throw new FatalBeanException("Could not convert elements of property '" + name + "' to "
+                        + elementType.getName() + ": unsupported collection type " + type.getName());
+            }
+            for (Object value : values) {
+                result.add(value == null || elementType.isInstance(value) ? value : convertElement(value));
+            }
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object convertElement(Object value) {
+            if (value instanceof Map && isBean(elementType)) {
+                Object element = Instantiators.of(elementType).get();
+                MapCopier.of(elementType).copy((Map<String, ?>) value, element);
+                return element;
+            }
+            Class<?> valueType = value.getClass();
+            Conversion current = elementConversion;
+            if (current == null || current.sourceType != valueType || current.version != TypeConverters.version()) {
+                current = conversion(valueType, elementType, value instanceof Number);
+                elementConversion = current;
+            }
+            return current.apply(name, value, elementType);
+        }
+
+        private Conversion conversion(Class<?> valueType, Class<?> targetType, boolean number) {
+            Function<Object, Object> converter = number ? numberConverter(targetType) : null;
+            if (converter == null) {
+                converter = TypeConverters.find(valueType, targetType);
+            }
+            if (converter == null) {
+                throw new FatalBeanException("Could not convert property '" + name + "' from "
+                        + valueType.getName() + " to " + targetType.getName());
+            }
+            return new Conversion(valueType, converter, TypeConverters.version());
+        }
+
+        /**
+         * 是否是可以由map填充的bean：非JDK类型、非枚举、可以实例化
+         *
+         * @param type class
+         * @return 是否是bean
+         */
+        private static boolean isBean(Class<?> type) {
+            if (type.isEnum() || type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+                return false;
+            }
+            String name = type.getName();
+            return !name.startsWith("java.") && !name.startsWith("javax.");
+        }
+
+        /**
+         * Number之间的精确转换，整数类型溢出或者丢失小数部分、浮点类型溢出时抛出{@link ArithmeticException}，
+         * 浮点类型按就近舍入
+         *
+         * @param type 目标类型
+         * @return 转换器，目标类型不是数值类型时返回null
+         */
+        private static Function<Object, Object> numberConverter(Class<?> type) {
+            if (type == Long.class) {
+                return Slot::exactLong;
+            } else if (type == Integer.class) {
+                return value -> Math.toIntExact(exactLong(value));
+            } else if (type == Short.class) {
+                return value -> {
+                    long result = exactLong(value);
+                    if (result != (short) result) {
+                        throw new ArithmeticException("short overflow: " + value);
+                    }
+                    return (short) result;
+                };
+            } else if (type == Byte.class) {
+                return value -> {
+                    long result = exactLong(value);
+                    if (result != (byte) result) {
+                        throw new ArithmeticException("byte overflow: " + value);
+                    }
+                    return (byte) result;
+                };
+            } else if (type == Double.class) {
+                return value -> {
+                    double result = ((Number) value).doubleValue();
+                    checkFinite(value, result);
+                    return result;
+                };
+            } else if (type == Float.class) {
+                return value -> {
+                    float result = ((Number) value).floatValue();
+                    checkFinite(value, result);
+                    return result;
+                };
+            } else if (type == BigDecimal.class) {
+                return Slot::decimal;
+            } else if (type == BigInteger.class) {
+                return value -> value instanceof BigInteger ? value : decimal(value).toBigIntegerExact();
+            }
+            return null;
+        }
+
+        /**
+         * 精确转换为long，溢出或者有小数部分时抛出{@link ArithmeticException}
+         */
+        private static long exactLong(Object value) {
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return ((Number) value).longValue();
+            }
+            if (value instanceof BigInteger) {
+                return ((BigInteger) value).longValueExact();
+            }
+            return decimal(value).longValueExact();
+        }
+
+        private static BigDecimal decimal(Object value) {
+            if (value instanceof BigDecimal) {
+                return (BigDecimal) value;
+            }
+            if (value instanceof BigInteger) {
+                return new BigDecimal((BigInteger) value);
+            }
+            return new BigDecimal(value.toString());
+        }
+
+        private static void checkFinite(Object value, double result) {
+            if (Double.isInfinite(result) && !(value instanceof Double && Double.isInfinite((Double) value))
+                    && !(value instanceof Float && Float.isInfinite((Float) value))) {
+                throw new ArithmeticException("floating point overflow: " + value);
+            }
+        }
+    }
+
+    /**
+     * 来源类型与转换器
+     */
+    private static final class Conversion {
+
+        private final Class<?> sourceType;
+
+        private final Function<Object, Object> converter;
+
+        private final int version;
+
+        Conversion(Class<?> sourceType, Function<Object, Object> converter, int version) {
+            this.sourceType = sourceType;
+            this.converter = converter;
+            this.version = version;
+        }
+
+        Object apply(String name, Object value, Class<?> targetType) {
+            try {
+                return converter.apply(value);
+            } catch (ArithmeticException | NumberFormatException e) {
+                throw new FatalBeanException("Could not convert property '" + name + "' value " + value + " to "
+                        + targetType.getName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.typhus.common.tools.convert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 大list的并行分块转换<br/>
+ * <p1>输入先拷贝为数组，按块拆分到ForkJoinPool上执行，每个元素的结果直接写入预先分配好大小的结果数组的对应下标，
+ * 因此结果顺序与输入一致，也不存在collector扩容。
+ * 任意元素转换失败时，下标更大的元素停止转换，下标更小的元素继续转换，最终抛出下标最小的那个异常，
+ * 保证同样的输入每次失败的结果一致。
+ * </p1>
+ *
+ * @author typhus-xxj
+ * @version ParallelConvert.java, v 0.1 2026年10月18日 17:20 typhus-xxj Exp $
+ */
+public final class ParallelConvert {
+
+    /**
+     * 小于该大小的list直接顺序转换
+     */
+    public static final int PARALLEL_THRESHOLD = 2048;
+
+    /**
+     * 单个分块的最小元素数
+     */
+    public static final int MIN_CHUNK_SIZE = 512;
+
+    private ParallelConvert() {
+    }
+
+    /**
+     * 使用默认分块大小并行转换
+     *
+     * @param fromList 转化来源list
+     * @param function F转化成T的具体实现
+     * @param pool     执行转换的ForkJoinPool
+     * @param <F>      转化来源对象泛型
+     * @param <T>      转化后的对象泛型
+     * @return 转化后的list，跳过来源中的null元素
+     */
+    public static <F, T> List<T> convert(List<F> fromList, Function<F, T> function, ForkJoinPool pool) {
+        int size = fromList == null ? 0 : fromList.size();
+        return convert(fromList, function, pool, Math.max(MIN_CHUNK_SIZE, size / (pool.getParallelism() * 4)));
+    }
+
+    /**
+     * 并行转换
+     *
+     * @param fromList  转化来源list
+     * @param function  F转化成T的具体实现
+     * @param pool      执行转换的ForkJoinPool
+     * @param chunkSize 单个分块的元素数
+     * @param <F>       转化来源对象泛型
+     * @param <T>       转化后的对象泛型
+     * @return 转化后的list，跳过来源中的null元素
+     */
+    @SuppressWarnings("unchecked")
+    public static <F, T> List<T> convert(List<F> fromList, Function<F, T> function, ForkJoinPool pool, int chunkSize) {
+        if (fromList == null || fromList.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(pool);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        Object[] sources = fromList.toArray();
+        Object[] results = new Object[sources.length];
+        Batch batch = new Batch(sources, results, (Function<Object, Object>) function, chunkSize);
+        if (sources.length <= chunkSize) {
+            batch.run(0, sources.length);
+        } else {
+            pool.invoke(new ChunkTask(batch, 0, sources.length));
+        }
+        if (batch.failure != null) {
+            throw Accessors.rethrow(batch.failure);
+        }
+        return (List<T>) toList(sources, results);
+    }
+
+    /**
+     * 结果数组按顺序填入预先分配好大小的ArrayList，跳过来源为null的位置
+     *
+     * @param sources 来源数组
+     * @param results 结果数组
+     * @return 结果list
+     */
+    private static List<Object> toList(Object[] sources, Object[] results) {
+        int nulls = 0;
+        for (Object source : sources) {
+            if (source == null) {
+                nulls++;
+            }
+        }
+        List<Object> list = new ArrayList<>(results.length - nulls);
+        for (int i = 0; i < sources.length; i++) {
+            if (sources[i] != null) {
+                list.add(results[i]);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * 一次并行转换的共享状态
+     */
+    private static final class Batch {
+
+        private final Object[] sources;
+
+        private final Object[] results;
+
+        private final Function<Object, Object> function;
+
+        private final int chunkSize;
+
+        /**
+         * 已失败的最小下标，没有失败时为Integer.MAX_VALUE
+         */
+        private final AtomicInteger failedIndex = new AtomicInteger(Integer.MAX_VALUE);
+
+        /**
+         * 最小下标对应的异常
+         */
+        private Throwable failure;
+
+        Batch(Object[] sources, Object[] results, Function<Object, Object> function, int chunkSize) {
+            this.sources = sources;
+            this.results = results;
+            this.function = function;
+            this.chunkSize = chunkSize;
+        }
+
+        /**
+         * 顺序转换[from, to)
+         *
+         * @param from 起始下标，包含
+         * @param to   结束下标，不包含
+         */
+        void run(int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (i > failedIndex.get()) {
+                    return;
+                }
+                Object source = sources[i];
+                if (source == null) {
+                    continue;
+                }
+                try {
+                    results[i] = function.apply(source);
+                } catch (Throwable e) {
+                    fail(i, e);
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 记录失败，只保留下标最小的异常
+         *
+         * @param index 失败下标
+         * @param e     异常
+         */
+        private synchronized void fail(int index, Throwable e) {
+            if (index < failedIndex.get()) {
+                failedIndex.set(index);
+                failure = e;
+            }
+        }
+    }
+
+    /**
+     * 分块任务
+     */
+    private static final class ChunkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Batch batch;
+
+        private final int from;
+
+        private final int to;
+
+        ChunkTask(Batch batch, int from, int to) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= batch.chunkSize) {
+                batch.run(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkTask(batch, from, middle), new ChunkTask(batch, middle, to));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.typhus.common.tools.convert;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 可复用的目标对象池，用于高频转换场景下避免每次创建新的目标对象<br/>
+ * <p1>池基于固定大小的数组队列，获取和归还都不产生新的对象；池空时新建对象，池满时归还的对象直接丢弃。
+ * 归还时先执行reset回调清理对象状态，未设置reset时对象保留上一次的属性值，
+ * 拷贝器会覆盖所有可拷贝的属性，但跳过null的属性会保留旧值。
+ * </p1>
+ *
+ * @param <T> 目标对象泛型
+ * @author typhus-xxj
+ * @version TargetPool.java, v 0.1 2026年10月18日 19:55 typhus-xxj Exp $
+ */
+public final class TargetPool<T> {
+
+    /**
+     * 池空时创建新对象
+     */
+    private final Supplier<T> factory;
+
+    /**
+     * 归还时的重置回调，可能为null
+     */
+    private final Consumer<? super T> reset;
+
+    /**
+     * 空闲对象
+     */
+    private final ArrayBlockingQueue<T> idle;
+
+    /**
+     * 使用type的无参构造器创建对象
+     *
+     * @param type     目标class
+     * @param capacity 池容量
+     * @param reset    归还时的重置回调，可以为null
+     */
+    public TargetPool(Class<T> type, int capacity, Consumer<? super T> reset) {
+        this(Instantiators.of(type), capacity, reset);
+    }
+
+    /**
+     * 使用factory创建对象
+     *
+     * @param factory  创建对象的函数式接口实现
+     * @param capacity 池容量
+     * @param reset    归还时的重置回调，可以为null
+     */
+    public TargetPool(Supplier<T> factory, int capacity, Consumer<? super T> reset) {
+        this.factory = Objects.requireNonNull(factory);
+        this.reset = reset;
+        this.idle = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * 获取对象，池空时新建
+     *
+     * @return 目标对象
+     */
+    public T acquire() {
+        T target = idle.poll();
+        return target != null ? target : factory.get();
+    }
+
+    /**
+     * 归还对象，先执行reset回调，池满时丢弃
+     *
+     * @param target 目标对象
+     */
+    public void release(T target) {
+        if (target == null) {
+            return;
+        }
+        if (reset != null) {
+            reset.accept(target);
+        }
+        idle.offer(target);
+    }
+
+    /**
+     * 归还list中的全部对象并清空list
+     *
+     * @param targets 目标对象list
+     */
+    public void releaseAll(List<? extends T> targets) {
+        for (int i = 0, size = targets.size(); i < size; i++) {
+            release(targets.get(i));
+        }
+        targets.clear();
+    }
+
+    /**
+     * 当前空闲对象数
+     *
+     * @return 空闲对象数
+     */
+    public int idleCount() {
+        return idle.size();
+    }
+}
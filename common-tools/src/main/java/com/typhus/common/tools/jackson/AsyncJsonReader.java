@@ -0,0 +1,143 @@
+package com.typhus.common.tools.jackson;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 非阻塞json读取，数据按块到达时逐块喂入，每个值（或者根数组的每个元素）完整后立即绑定并交付<br/>
+ * <p1>基于jackson的非阻塞解析器，不需要等待完整的报文，也不阻塞线程等待IO。
+ * 未完成的值以token形式暂存在TokenBuffer中，内存占用与单个值相当；根节点可以是连续的多个值。
+ * {@link #feed(ByteBuffer, Consumer)}返回前会消费完传入的ByteBuffer，返回后调用方可以复用该buffer。
+ * 非线程安全。
+ * </p1>
+ *
+ * @param <T> 值类型
+ * @author typhus-xxj
+ * @version AsyncJsonReader.java, v 0.1 2026年10月18日 23:56 typhus-xxj Exp $
+ */
+public final class AsyncJsonReader<T> implements Closeable {
+
+    private final JsonParser parser;
+
+    private final ByteBufferFeeder feeder;
+
+    private final ObjectReader reader;
+
+    /**
+     * 是否把根数组拆成元素逐个交付
+     */
+    private final boolean unwrapArray;
+
+    /**
+     * 当前嵌套深度
+     */
+    private int depth;
+
+    /**
+     * 拆数组时，是否已经进入根数组
+     */
+    private boolean inRootArray;
+
+    /**
+     * 当前未完成的值
+     */
+    private TokenBuffer pending;
+
+    /**
+     * @param factory     创建非阻塞解析器的工厂，需要由reader所属的ObjectMapper提供
+     * @param reader      值类型的ObjectReader
+     * @param unwrapArray 根节点为数组时是否逐个交付元素
+     * @throws IOException 创建解析器失败
+     */
+    public AsyncJsonReader(JsonFactory factory, ObjectReader reader, boolean unwrapArray) throws IOException {
+        this.parser = factory.createNonBlockingByteBufferParser();
+        this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+        this.reader = reader;
+        this.unwrapArray = unwrapArray;
+    }
+
+    /**
+     * 喂入一块数据，已经完整的值交给consumer
+     *
+     * @param chunk    数据块，从position读到limit
+     * @param consumer 值消费者
+     * @throws IOException 解析或者绑定失败
+     */
+    public void feed(ByteBuffer chunk, Consumer<? super T> consumer) throws IOException {
+        feeder.feedInput(chunk);
+        drain(consumer);
+    }
+
+    /**
+     * 喂入一块数据
+     *
+     * @param chunk 数据块，从position读到limit
+     * @return 这块数据之后已经完整的值
+     * @throws IOException 解析或者绑定失败
+     */
+    public List<T> feed(ByteBuffer chunk) throws IOException {
+        List<T> values = new ArrayList<>();
+        feed(chunk, values::add);
+        return values;
+    }
+
+    /**
+     * 标记输入结束，交付剩余的值，输入在值的中间结束时抛出异常
+     *
+     * @param consumer 值消费者
+     * @throws IOException 解析或者绑定失败
+     */
+    public void end(Consumer<? super T> consumer) throws IOException {
+        feeder.endOfInput();
+        drain(consumer);
+        if (pending != null || depth > 0) {
+            throw new IOException("unexpected end of json input");
+        }
+    }
+
+    private void drain(Consumer<? super T> consumer) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (unwrapArray && depth == 0 && token == JsonToken.START_ARRAY && !inRootArray) {
+                inRootArray = true;
+                depth++;
+                continue;
+            }
+            if (inRootArray && depth == 1 && token == JsonToken.END_ARRAY) {
+                inRootArray = false;
+                depth--;
+                continue;
+            }
+            if (pending == null) {
+                pending = new TokenBuffer(parser);
+            }
+            pending.copyCurrentEvent(parser);
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            if (depth == (inRootArray ? 1 : 0)) {
+                TokenBuffer value = pending;
+                pending = null;
+                consumer.accept(reader.readValue(value.asParser(parser.getCodec())));
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,83 @@
+package com.typhus.common.tools.jackson;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+
+/**
+ * 全局的BufferRecycler池，替代jackson基于ThreadLocal/SoftReference的回收方式<br/>
+ * <p1>虚拟线程每个请求一个线程，ThreadLocal中的buffer每次都是冷的，回收完全失效。
+ * 该池按线程id把线程分散到固定数量的BufferRecycler上，池的大小固定，与线程数无关；
+ * BufferRecycler内部使用AtomicReferenceArray保存buffer，取出和归还都是无锁的，
+ * 同一个BufferRecycler被多个线程同时使用时，取不到buffer的线程直接新建，不会等待。
+ * 默认关闭，通过系统属性{@value #ENABLED_PROPERTY}=true或者{@link #setEnabled(boolean)}开启。
+ * </p1>
+ *
+ * @author typhus-xxj
+ * @version BufferRecyclerPool.java, v 0.1 2026年10月18日 23:40 typhus-xxj Exp $
+ */
+public final class BufferRecyclerPool {
+
+    /**
+     * 开启全局池的系统属性
+     */
+    public static final String ENABLED_PROPERTY = "typhus.jackson.globalBufferPool";
+
+    /**
+     * 分段的BufferRecycler，数量为2的幂
+     */
+    private static final BufferRecycler[] RECYCLERS;
+
+    private static final int MASK;
+
+    private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    static {
+        int size = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 4 - 1)) << 1;
+        RECYCLERS = new BufferRecycler[size];
+        for (int i = 0; i < size; i++) {
+            RECYCLERS[i] = new BufferRecycler();
+        }
+        MASK = size - 1;
+    }
+
+    private BufferRecyclerPool() {
+    }
+
+    /**
+     * 是否使用全局池
+     *
+     * @return 是否开启
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 开启或关闭全局池，只影响之后创建的parser/generator
+     *
+     * @param enabled 是否开启
+     */
+    public static void setEnabled(boolean enabled) {
+        BufferRecyclerPool.enabled = enabled;
+    }
+
+    /**
+     * 获取当前线程对应的BufferRecycler
+     *
+     * @return BufferRecycler
+     */
+    public static BufferRecycler get() {
+        long id = Thread.currentThread().getId();
+        // 打散连续的线程id
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return RECYCLERS[(hash ^ (hash >>> 16)) & MASK];
+    }
+
+    /**
+     * 池中BufferRecycler的数量
+     *
+     * @return 数量
+     */
+    public static int size() {
+        return RECYCLERS.length;
+    }
+}
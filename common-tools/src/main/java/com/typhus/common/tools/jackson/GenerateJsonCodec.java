@@ -0,0 +1,23 @@
+package com.typhus.common.tools.jackson;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标注在DTO上，编译期由common-processor生成专用的JsonSerializer/JsonDeserializer（{@link GeneratedJsonCodec}实现），
+ * 序列化时按属性名字典序直接写JsonGenerator，反序列化时按属性名switch直接调用setter，
+ * 运行时自动注册到JacksonUtil的json mapper，输出与jackson默认的BeanSerializer逐字节一致<br/>
+ * <p1>只支持普通的getter/setter bean：public、非泛型、有public无参构造方法，且类型、方法、字段上没有jackson注解；
+ * 不满足条件的class在编译时给出警告并跳过，运行时仍然使用jackson默认的序列化器。</p1>
+ *
+ * @author typhus-xxj
+ * @version GenerateJsonCodec.java, v 0.1 2026年10月18日 23:58 typhus-xxj Exp $
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateJsonCodec {
+}
@@ -0,0 +1,35 @@
+package com.typhus.common.tools.jackson;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+
+/**
+ * 编译期生成的json序列化/反序列化实现，由{@link GenerateJsonCodec}触发生成并通过ServiceLoader注册
+ *
+ * @param <T> bean类型
+ * @author typhus-xxj
+ * @version GeneratedJsonCodec.java, v 0.1 2026年10月18日 23:58 typhus-xxj Exp $
+ */
+public interface GeneratedJsonCodec<T> {
+
+    /**
+     * bean类型
+     *
+     * @return bean类型
+     */
+    Class<T> type();
+
+    /**
+     * 创建序列化器
+     *
+     * @return 序列化器
+     */
+    JsonSerializer<T> serializer();
+
+    /**
+     * 创建反序列化器，反序列化器在resolve时缓存属性的反序列化器，每个ObjectMapper需要单独的实例
+     *
+     * @return 反序列化器
+     */
+    JsonDeserializer<T> deserializer();
+}
@@ -0,0 +1,177 @@
+package com.typhus.common.tools.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerFactory;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * 编译期生成的{@link GeneratedJsonCodec}注册表，首次使用时通过ServiceLoader加载一次<br/>
+ * <p1>只对完全相同的class生效，子类仍然使用jackson默认的序列化器，避免丢失子类的属性。</p1>
+ *
+ * @author typhus-xxj
+ * @version GeneratedJsonCodecs.java, v 0.1 2026年10月18日 23:58 typhus-xxj Exp $
+ */
+public final class GeneratedJsonCodecs {
+
+    /**
+     * 日志对象
+     */
+    private static final Logger logger = LoggerFactory.getLogger(GeneratedJsonCodecs.class);
+
+    /**
+     * bean类型 -> codec
+     */
+    private static final Map<Class<?>, GeneratedJsonCodec<?>> CODECS = load();
+
+    private GeneratedJsonCodecs() {
+    }
+
+    /**
+     * 查找生成的codec
+     *
+     * @param type bean类型
+     * @return codec，不存在时返回null
+     */
+    public static GeneratedJsonCodec<?> find(Class<?> type) {
+        return CODECS.get(type);
+    }
+
+    /**
+     * 注册所有生成的序列化器/反序列化器的jackson模块
+     *
+     * @return 模块
+     */
+    public static Module module() {
+        return new SimpleModule("GeneratedJsonCodecs") {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public void setupModule(SetupContext context) {
+                super.setupModule(context);
+                if (CODECS.isEmpty()) {
+                    return;
+                }
+                context.addSerializers(new Serializers.Base() {
+                    @Override
+                    public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+                        GeneratedJsonCodec<?> codec = CODECS.get(type.getRawClass());
+                        return codec == null ? null : codec.serializer();
+                    }
+                });
+                context.addDeserializers(new Deserializers.Base() {
+                    @Override
+                    public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config,
+                                                                    BeanDescription beanDesc) {
+                        GeneratedJsonCodec<?> codec = CODECS.get(type.getRawClass());
+                        return codec == null ? null : codec.deserializer();
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * 生成的反序列化器读取属性值，null按属性反序列化器的null值处理，与jackson的SettableBeanProperty一致
+     *
+     * @param deserializer 属性反序列化器
+     * @param p            解析器，指向属性值
+     * @param ctxt         反序列化上下文
+     * @return 属性值
+     * @throws IOException 解析失败
+     */
+    public static Object value(JsonDeserializer<Object> deserializer, JsonParser p, DeserializationContext ctxt)
+            throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return deserializer.getNullValue(ctxt);
+        }
+        return deserializer.deserialize(p, ctxt);
+    }
+
+    /**
+     * 生成的序列化器检查属性值是否为bean自身，与jackson的BeanPropertyWriter一致
+     *
+     * @param bean     bean
+     * @param value    属性值
+     * @param gen      generator
+     * @param provider 序列化上下文
+     * @throws JsonMappingException 开启FAIL_ON_SELF_REFERENCES且属性值为bean自身
+     */
+    public static void checkSelfReference(Object bean, Object value, JsonGenerator gen, SerializerProvider provider)
+            throws JsonMappingException {
+        if (value == bean && provider.isEnabled(SerializationFeature.FAIL_ON_SELF_REFERENCES)) {
+            throw JsonMappingException.from(gen, "Direct self-reference leading to cycle (through reference chain: "
+                    + bean.getClass().getName() + ")");
+        }
+    }
+
+    /**
+     * 构建jackson默认的BeanDeserializer，生成的反序列化器用于处理非对象的输入（空数组、字符串等），保证行为一致
+     *
+     * @param ctxt 反序列化上下文
+     * @param type bean类型
+     * @return 已resolve的BeanDeserializer
+     * @throws JsonMappingException 构建失败
+     */
+    public static JsonDeserializer<Object> beanDeserializer(DeserializationContext ctxt, Class<?> type)
+            throws JsonMappingException {
+        JavaType javaType = ctxt.constructType(type);
+        BeanDescription beanDesc = ctxt.getConfig().introspect(javaType);
+        JsonDeserializer<Object> deserializer = ((BeanDeserializerFactory) ctxt.getFactory())
+                .buildBeanDeserializer(ctxt, javaType, beanDesc);
+        if (deserializer instanceof ResolvableDeserializer) {
+            ((ResolvableDeserializer) deserializer).resolve(ctxt);
+        }
+        return deserializer;
+    }
+
+    /**
+     * 通过ServiceLoader加载所有生成的codec
+     *
+     * @return 注册表
+     */
+    @SuppressWarnings("rawtypes")
+    private static Map<Class<?>, GeneratedJsonCodec<?>> load() {
+        Map<Class<?>, GeneratedJsonCodec<?>> result = new HashMap<>();
+        Iterator<GeneratedJsonCodec> iterator = ServiceLoader.load(GeneratedJsonCodec.class,
+                GeneratedJsonCodec.class.getClassLoader()).iterator();
+        while (true) {
+            try {
+                if (!iterator.hasNext()) {
+                    break;
+                }
+                GeneratedJsonCodec<?> codec = iterator.next();
+                result.put(codec.type(), codec);
+            } catch (ServiceConfigurationError e) {
+                logger.warn("load generated json codec error", e);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+}
@@ -0,0 +1,70 @@
+package com.typhus.common.tools.jackson;
+
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.util.zip.Checksum;
+
+/**
+ * 只计算摘要/校验和、不保存数据的输出流<br/>
+ * <p1>jackson的generator在自身回收的buffer中编码，buffer写满或者结束时整块写入该流，
+ * 序列化结果不会生成完整的字符串或者字节数组。非线程安全。</p1>
+ *
+ * @author typhus-xxj
+ * @version HashingOutputStream.java, v 0.1 2026年10月19日 00:05 typhus-xxj Exp $
+ */
+public final class HashingOutputStream extends OutputStream {
+
+    private final MessageDigest digest;
+
+    private final Checksum checksum;
+
+    /**
+     * 已写入的字节数
+     */
+    private long count;
+
+    /**
+     * @param digest 消息摘要
+     */
+    public HashingOutputStream(MessageDigest digest) {
+        this.digest = digest;
+        this.checksum = null;
+    }
+
+    /**
+     * @param checksum 校验和，比如CRC32
+     */
+    public HashingOutputStream(Checksum checksum) {
+        this.digest = null;
+        this.checksum = checksum;
+    }
+
+    @Override
+    public void write(int b) {
+        if (digest != null) {
+            digest.update((byte) b);
+        } else {
+            checksum.update(b);
+        }
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        if (digest != null) {
+            digest.update(b, off, len);
+        } else {
+            checksum.update(b, off, len);
+        }
+        count += len;
+    }
+
+    /**
+     * 已写入的字节数
+     *
+     * @return 字节数
+     */
+    public long getCount() {
+        return count;
+    }
+}
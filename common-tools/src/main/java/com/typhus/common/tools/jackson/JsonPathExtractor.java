@@ -0,0 +1,209 @@
+package com.typhus.common.tools.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基于token流的json路径提取，不构建完整的JsonNode树<br/>
+ * <p1>路径格式：{@code $.header.traceId}、{@code items[0].id}，开头的{@code $.}可以省略。
+ * 多个路径编译为一棵前缀树，一次遍历同时提取；不在路径上的子树通过{@link JsonParser#skipChildren()}跳过，
+ * 全部路径都提取到后立即停止读取，剩余内容不再解析。只有命中的值会构建为JsonNode。
+ * 编译后的实例不可变，可以缓存复用。
+ * </p1>
+ *
+ * @author typhus-xxj
+ * @version JsonPathExtractor.java, v 0.1 2026年10月18日 23:00 typhus-xxj Exp $
+ */
+public final class JsonPathExtractor {
+
+    /**
+     * 前缀树根节点
+     */
+    private final Node root = new Node();
+
+    /**
+     * 需要提取的路径数
+     */
+    private final int pathCount;
+
+    private JsonPathExtractor(String... paths) {
+        int count = 0;
+        for (String path : paths) {
+            Node node = root;
+            for (Object segment : parse(path)) {
+                node = node.child(segment);
+            }
+            if (node.path == null) {
+                node.path = path;
+                count++;
+            }
+        }
+        this.pathCount = count;
+    }
+
+    /**
+     * 编译路径
+     *
+     * @param paths 路径
+     * @return 提取器
+     */
+    public static JsonPathExtractor compile(String... paths) {
+        return new JsonPathExtractor(paths);
+    }
+
+    /**
+     * 从parser中提取路径对应的值，parser需要设置ObjectCodec（由ObjectMapper创建的parser均满足）
+     *
+     * @param parser 未开始读取的parser
+     * @return 路径 -> 值，不存在的路径不包含在结果中，顺序为命中的顺序
+     * @throws IOException 解析失败
+     */
+    public Map<String, JsonNode> extract(JsonParser parser) throws IOException {
+        Map<String, JsonNode> values = new LinkedHashMap<>(pathCount * 4 / 3 + 1);
+        if (parser.nextToken() != null) {
+            walk(parser, root, values);
+        }
+        return values;
+    }
+
+    /**
+     * 遍历当前值
+     *
+     * @param parser 当前token为值的第一个token
+     * @param node   当前值对应的前缀树节点
+     * @param values 结果
+     * @return 是否已提取到全部路径
+     */
+    private boolean walk(JsonParser parser, Node node, Map<String, JsonNode> values) throws IOException {
+        if (node.path != null) {
+            JsonNode value = parser.readValueAsTree();
+            values.put(node.path, value);
+            resolve(value, node, values);
+            return values.size() == pathCount;
+        }
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT && node.fields != null) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                Node child = node.fields.get(parser.getCurrentName());
+                parser.nextToken();
+                if (child == null) {
+                    parser.skipChildren();
+                } else if (walk(parser, child, values)) {
+                    return true;
+                }
+            }
+        } else if (token == JsonToken.START_ARRAY && node.indexes != null) {
+            for (int index = 0; parser.nextToken() != JsonToken.END_ARRAY; index++) {
+                Node child = node.indexes.get(index);
+                if (child == null) {
+                    parser.skipChildren();
+                } else if (walk(parser, child, values)) {
+                    return true;
+                }
+            }
+        } else {
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    /**
+     * 已构建为JsonNode的值上继续提取更深的路径
+     *
+     * @param value  值
+     * @param node   值对应的前缀树节点
+     * @param values 结果
+     */
+    private static void resolve(JsonNode value, Node node, Map<String, JsonNode> values) {
+        if (node.fields != null) {
+            for (Map.Entry<String, Node> entry : node.fields.entrySet()) {
+                resolveChild(value.get(entry.getKey()), entry.getValue(), values);
+            }
+        }
+        if (node.indexes != null) {
+            for (Map.Entry<Integer, Node> entry : node.indexes.entrySet()) {
+                resolveChild(value.get(entry.getKey()), entry.getValue(), values);
+            }
+        }
+    }
+
+    private static void resolveChild(JsonNode child, Node node, Map<String, JsonNode> values) {
+        if (child == null) {
+            return;
+        }
+        if (node.path != null) {
+            values.put(node.path, child);
+        }
+        resolve(child, node, values);
+    }
+
+    /**
+     * 解析路径为字段名（String）和数组下标（Integer）
+     *
+     * @param path 路径
+     * @return 路径片段
+     */
+    private static Object[] parse(String path) {
+        String expression = path.startsWith("$") ? path.substring(1) : path;
+        List<Object> segments = new ArrayList<>();
+        int i = 0;
+        int length = expression.length();
+        while (i < length) {
+            char c = expression.charAt(i);
+            if (c == '.') {
+                i++;
+            } else if (c == '[') {
+                int end = expression.indexOf(']', i);
+                if (end < 0) {
+                    throw new IllegalArgumentException("illegal json path: " + path);
+                }
+                segments.add(Integer.valueOf(expression.substring(i + 1, end).trim()));
+                i = end + 1;
+            } else {
+                int end = i;
+                while (end < length && expression.charAt(end) != '.' && expression.charAt(end) != '[') {
+                    end++;
+                }
+                segments.add(expression.substring(i, end));
+                i = end;
+            }
+        }
+        return segments.toArray();
+    }
+
+    /**
+     * 前缀树节点
+     */
+    private static final class Node {
+
+        /**
+         * 以该节点结束的路径，不是路径终点时为null
+         */
+        private String path;
+
+        private Map<String, Node> fields;
+
+        private Map<Integer, Node> indexes;
+
+        Node child(Object segment) {
+            if (segment instanceof Integer) {
+                if (indexes == null) {
+                    indexes = new HashMap<>();
+                }
+                return indexes.computeIfAbsent((Integer) segment, k -> new Node());
+            }
+            if (fields == null) {
+                fields = new HashMap<>();
+            }
+            return fields.computeIfAbsent((String) segment, k -> new Node());
+        }
+    }
+}
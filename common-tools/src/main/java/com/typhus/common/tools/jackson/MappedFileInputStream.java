@@ -0,0 +1,113 @@
+package com.typhus.common.tools.jackson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 基于内存映射的文件输入流，数据由操作系统的page cache直接提供，不在堆上复制整个文件<br/>
+ * <p1>文件按固定大小的区域依次映射，当前区域读完后再映射下一个区域，因此支持超过2GB的文件。
+ * 映射区域在失去引用后由GC释放，关闭流只关闭FileChannel。
+ * </p1>
+ *
+ * @author typhus-xxj
+ * @version MappedFileInputStream.java, v 0.1 2026年10月18日 21:20 typhus-xxj Exp $
+ */
+public final class MappedFileInputStream extends InputStream {
+
+    /**
+     * 默认单个映射区域大小
+     */
+    public static final int DEFAULT_REGION_SIZE = 1 << 30;
+
+    private final FileChannel channel;
+
+    private final long size;
+
+    private final int regionSize;
+
+    /**
+     * 下一个映射区域在文件中的起始位置
+     */
+    private long nextRegion;
+
+    /**
+     * 当前映射区域
+     */
+    private MappedByteBuffer buffer;
+
+    public MappedFileInputStream(Path path) throws IOException {
+        this(path, DEFAULT_REGION_SIZE);
+    }
+
+    public MappedFileInputStream(Path path, int regionSize) throws IOException {
+        if (regionSize <= 0) {
+            throw new IllegalArgumentException("regionSize must be positive: " + regionSize);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.regionSize = regionSize;
+    }
+
+    /**
+     * 当前区域读完时映射下一个区域
+     *
+     * @return 是否还有数据
+     */
+    private boolean ensureRemaining() throws IOException {
+        if (buffer != null && buffer.hasRemaining()) {
+            return true;
+        }
+        if (nextRegion >= size) {
+            return false;
+        }
+        long length = Math.min(regionSize, size - nextRegion);
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, nextRegion, length);
+        nextRegion += length;
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return ensureRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureRemaining()) {
+            return -1;
+        }
+        int n = Math.min(len, buffer.remaining());
+        buffer.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n && ensureRemaining()) {
+            int step = (int) Math.min(n - skipped, buffer.remaining());
+            buffer.position(buffer.position() + step);
+            skipped += step;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        long remaining = size - nextRegion + (buffer == null ? 0 : buffer.remaining());
+        return (int) Math.min(Integer.MAX_VALUE, remaining);
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer = null;
+        channel.close();
+    }
+}
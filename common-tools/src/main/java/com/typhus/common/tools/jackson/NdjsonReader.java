@@ -0,0 +1,208 @@
+package com.typhus.common.tools.jackson;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
+
+/**
+ * NDJSON（JSON Lines）并行读取<br/>
+ * <p1>输入按块读取，每块在最后一个换行处切开，余下的半行并入下一块；每块交给executor逐行反序列化，
+ * 结果在调用线程上交给consumer。同时在途的块数不超过并行度的两倍，内存占用与输入大小无关。
+ * ordered为true时按输入顺序交付，否则按块完成顺序交付（块内仍保持顺序）。空行忽略，行尾的\r忽略。
+ * </p1>
+ *
+ * @author typhus-xxj
+ * @version NdjsonReader.java, v 0.1 2026年10月18日 22:00 typhus-xxj Exp $
+ */
+public final class NdjsonReader {
+
+    /**
+     * 默认块大小
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    private NdjsonReader() {
+    }
+
+    /**
+     * 并行读取NDJSON，不关闭输入流
+     *
+     * @param in          输入流
+     * @param reader      元素类型的ObjectReader
+     * @param consumer    元素消费者，在调用线程上执行
+     * @param executor    反序列化使用的executor
+     * @param parallelism 并行度，决定同时在途的块数
+     * @param chunkSize   块大小，单行超过块大小时自动扩大
+     * @param ordered     是否按输入顺序交付
+     * @param <T>         T
+     * @throws IOException 读取输入流失败
+     */
+    public static <T> void read(InputStream in, ObjectReader reader, Consumer<? super T> consumer, Executor executor,
+                                int parallelism, int chunkSize, boolean ordered) throws IOException {
+        Objects.requireNonNull(reader);
+        Objects.requireNonNull(consumer);
+        Objects.requireNonNull(executor);
+        if (chunkSize <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("chunkSize and parallelism must be positive");
+        }
+        int maxInFlight = parallelism * 2;
+        Deque<Future<List<T>>> queue = new ArrayDeque<>(maxInFlight);
+        // 无序模式下queue只记录在途的块，用于异常时取消
+        CompletionService<List<T>> completion = ordered ? null : new ExecutorCompletionService<>(executor);
+        try {
+            byte[] buffer = new byte[chunkSize];
+            int length = 0;
+            while (true) {
+                int n = in.read(buffer, length, buffer.length - length);
+                boolean eof = n < 0;
+                if (!eof) {
+                    length += n;
+                    if (length < buffer.length) {
+                        continue;
+                    }
+                }
+                int end = eof ? length : lastNewline(buffer, length) + 1;
+                if (end == 0 && !eof) {
+                    // 单行超过块大小
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                    continue;
+                }
+                if (end > 0) {
+                    byte[] chunk = buffer;
+                    int chunkLength = end;
+                    if (ordered) {
+                        FutureTask<List<T>> task = new FutureTask<>(() -> parse(chunk, chunkLength, reader));
+                        executor.execute(task);
+                        queue.addLast(task);
+                        if (queue.size() >= maxInFlight) {
+                            deliver(queue.pollFirst(), consumer);
+                        }
+                    } else {
+                        queue.addLast(completion.submit(() -> parse(chunk, chunkLength, reader)));
+                        if (queue.size() >= maxInFlight) {
+                            deliverCompleted(completion, queue, consumer);
+                        }
+                    }
+                    // 块交给了executor，余下的半行拷贝到新的buffer
+                    byte[] next = new byte[Math.max(chunkSize, length - end)];
+                    System.arraycopy(buffer, end, next, 0, length - end);
+                    buffer = next;
+                    length -= end;
+                }
+                if (eof) {
+                    break;
+                }
+            }
+            while (!queue.isEmpty()) {
+                if (ordered) {
+                    deliver(queue.pollFirst(), consumer);
+                } else {
+                    deliverCompleted(completion, queue, consumer);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while reading ndjson", e);
+        } finally {
+            for (Future<List<T>> future : queue) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * 无序模式下等待任意一个块解析完成，移出在途队列并交付结果
+     *
+     * @param completion 块的CompletionService
+     * @param inFlight   在途的块
+     * @param consumer   元素消费者
+     * @param <T>        T
+     */
+    private static <T> void deliverCompleted(CompletionService<List<T>> completion, Deque<Future<List<T>>> inFlight,
+                                             Consumer<? super T> consumer) throws InterruptedException {
+        Future<List<T>> future = completion.take();
+        inFlight.remove(future);
+        deliver(future, consumer);
+    }
+
+    /**
+     * 等待块解析完成并交付结果
+     *
+     * @param future   块结果
+     * @param consumer 元素消费者
+     * @param <T>      T
+     */
+    private static <T> void deliver(Future<List<T>> future, Consumer<? super T> consumer) throws InterruptedException {
+        List<T> values;
+        try {
+            values = future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException("not able to parse ndjson chunk", cause);
+        }
+        for (int i = 0, size = values.size(); i < size; i++) {
+            consumer.accept(values.get(i));
+        }
+    }
+
+    /**
+     * 逐行反序列化一个块
+     *
+     * @param chunk  块数据
+     * @param length 有效长度
+     * @param reader 元素类型的ObjectReader
+     * @param <T>    T
+     * @return 块内的元素
+     */
+    private static <T> List<T> parse(byte[] chunk, int length, ObjectReader reader) throws IOException {
+        List<T> values = new ArrayList<>();
+        int start = 0;
+        while (start < length) {
+            int end = start;
+            while (end < length && chunk[end] != '\n') {
+                end++;
+            }
+            int lineEnd = end > start && chunk[end - 1] == '\r' ? end - 1 : end;
+            if (!isBlank(chunk, start, lineEnd)) {
+                values.add(reader.readValue(chunk, start, lineEnd - start));
+            }
+            start = end + 1;
+        }
+        return values;
+    }
+
+    private static boolean isBlank(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] != ' ' && bytes[i] != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int lastNewline(byte[] bytes, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,174 @@
+package com.typhus.common.tools.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.typhus.common.tools.convert.TargetPool;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * NDJSON（JSON Lines）批量写入<br/>
+ * <p1>记录逐条序列化到批量缓冲区，每条后追加换行，缓冲区写满时一次性写入输出流，
+ * 缓冲区从全局的池中获取，关闭时归还，频繁创建writer也不会重复分配大块内存。
+ * 非线程安全；关闭writer时不关闭输出流。
+ * </p1>
+ *
+ * @author typhus-xxj
+ * @version NdjsonWriter.java, v 0.1 2026年10月18日 22:10 typhus-xxj Exp $
+ */
+public final class NdjsonWriter implements Closeable, Flushable {
+
+    /**
+     * 批量缓冲区大小
+     */
+    public static final int BATCH_SIZE = 1 << 16;
+
+    /**
+     * 批量缓冲区池
+     */
+    private static final TargetPool<byte[]> BUFFERS = new TargetPool<>(() -> new byte[BATCH_SIZE],
+            Runtime.getRuntime().availableProcessors() * 2, null);
+
+    private final OutputStream out;
+
+    private final ObjectWriter writer;
+
+    private final BatchOutputStream batch;
+
+    private final JsonGenerator generator;
+
+    private boolean closed;
+
+    /**
+     * @param mapper 使用该ObjectMapper的配置序列化
+     * @param writer 序列化使用的ObjectWriter，需要由mapper创建
+     * @param out    输出流
+     * @throws IOException 创建generator失败
+     */
+    public NdjsonWriter(ObjectMapper mapper, ObjectWriter writer, OutputStream out) throws IOException {
+        this.out = out;
+        // 记录之间由换行分隔，不使用默认的空格分隔符；不在每条记录后flush
+        this.writer = writer.withRootValueSeparator("").without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        byte[] buffer = BUFFERS.acquire();
+        try {
+            this.batch = new BatchOutputStream(out, buffer);
+            this.generator = mapper.getFactory().createGenerator(batch);
+        } catch (IOException | RuntimeException e) {
+            BUFFERS.release(buffer);
+            throw e;
+        }
+    }
+
+    /**
+     * 写入一条记录
+     *
+     * @param value 记录
+     * @throws IOException 写入失败
+     */
+    public void write(Object value) throws IOException {
+        writer.writeValue(generator, value);
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * 写入多条记录
+     *
+     * @param values 记录
+     * @throws IOException 写入失败
+     */
+    public void writeAll(Iterable<?> values) throws IOException {
+        for (Object value : values) {
+            write(value);
+        }
+    }
+
+    /**
+     * 将已缓冲的记录写入输出流并flush输出流
+     *
+     * @throws IOException 写入失败
+     */
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+        batch.drain();
+        out.flush();
+    }
+
+    /**
+     * flush并归还缓冲区，不关闭输出流
+     *
+     * @throws IOException 写入失败
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            flush();
+            generator.close();
+        } finally {
+            BUFFERS.release(batch.buffer);
+        }
+    }
+
+    /**
+     * 批量缓冲输出流，只在缓冲区写满或者显式drain时写入下游，flush不向下游传递
+     */
+    private static final class BatchOutputStream extends OutputStream {
+
+        private final OutputStream out;
+
+        private final byte[] buffer;
+
+        private int count;
+
+        BatchOutputStream(OutputStream out, byte[] buffer) {
+            this.out = out;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (count == buffer.length) {
+                drain();
+            }
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len >= buffer.length) {
+                drain();
+                out.write(b, off, len);
+                return;
+            }
+            if (len > buffer.length - count) {
+                drain();
+            }
+            System.arraycopy(b, off, buffer, count, len);
+            count += len;
+        }
+
+        void drain() throws IOException {
+            if (count > 0) {
+                out.write(buffer, 0, count);
+                count = 0;
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,381 @@
+package com.typhus.common.tools.jackson;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.LRUMap;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 单个ObjectMapper的ObjectReader/ObjectWriter缓存<br/>
+ * <p1>按class、list元素class、数组元素class、map的key/value class缓存解析好的{@link JavaType}，
+ * 再按JavaType缓存ObjectReader/ObjectWriter，热点路径上一次反序列化只有一次缓存查找和一次reader调用，
+ * 不再每次创建TypeReference，也不再每次让jackson解析类型。
+ * 按class缓存的类型和reader/writer使用ClassValue，随class卸载回收；按泛型Type、JavaType缓存的部分有数量上限，
+ * 避免大量动态类型撑满内存。
+ * reader/writer在首次使用时创建，创建后ObjectMapper的配置变更不会影响已缓存的reader/writer，
+ * 因此ObjectMapper需要在第一次使用前完成配置。
+ * </p1>
+ *
+ * @author typhus-xxj
+ * @version ObjectCodecs.java, v 0.1 2026年10月18日 20:50 typhus-xxj Exp $
+ */
+public final class ObjectCodecs {
+
+    /**
+     * 泛型Type、JavaType缓存默认的最大数量
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 512;
+
+    /**
+     * 所属ObjectMapper
+     */
+    private final ObjectMapper mapper;
+
+    /**
+     * class -> JavaType
+     */
+    private final ClassValue<JavaType> types = new ClassValue<JavaType>() {
+        @Override
+        protected JavaType computeValue(Class<?> type) {
+            return typeFactory().constructType(type);
+        }
+    };
+
+    /**
+     * 元素class -> List&lt;元素class&gt;
+     */
+    private final ClassValue<JavaType> listTypes = new ClassValue<JavaType>() {
+        @Override
+        protected JavaType computeValue(Class<?> type) {
+            return typeFactory().constructCollectionType(List.class, type);
+        }
+    };
+
+    /**
+     * 元素class -> 元素class[]
+     */
+    private final ClassValue<JavaType> arrayTypes = new ClassValue<JavaType>() {
+        @Override
+        protected JavaType computeValue(Class<?> type) {
+            return typeFactory().constructArrayType(type);
+        }
+    };
+
+    /**
+     * key class -> (value class -> Map&lt;key class, value class&gt;)
+     */
+    private final ClassValue<ClassValue<JavaType>> mapTypes = new ClassValue<ClassValue<JavaType>>() {
+        @Override
+        protected ClassValue<JavaType> computeValue(Class<?> keyType) {
+            return new ClassValue<JavaType>() {
+                @Override
+                protected JavaType computeValue(Class<?> valueType) {
+                    return typeFactory().constructMapType(Map.class, keyType, valueType);
+                }
+            };
+        }
+    };
+
+    /**
+     * class -> ObjectReader
+     */
+    private final ClassValue<ObjectReader> classReaders = new ClassValue<ObjectReader>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> type) {
+            return mapper.readerFor(types.get(type));
+        }
+    };
+
+    /**
+     * class -> ObjectWriter
+     */
+    private final ClassValue<ObjectWriter> classWriters = new ClassValue<ObjectWriter>() {
+        @Override
+        protected ObjectWriter computeValue(Class<?> type) {
+            return mapper.writerFor(types.get(type));
+        }
+    };
+
+    /**
+     * 泛型Type -> JavaType，用于TypeReference
+     */
+    private final LRUMap<Type, JavaType> genericTypes;
+
+    /**
+     * (原始class, 泛型参数) -> JavaType，用于Result&lt;R,T,K,V&gt;这类多泛型参数的类型
+     */
+    private final LRUMap<ParametricKey, JavaType> parametricTypes;
+
+    /**
+     * JavaType -> ObjectReader，不含class对应的简单类型
+     */
+    private final LRUMap<JavaType, ObjectReader> readers;
+
+    /**
+     * JavaType -> ObjectWriter，不含class对应的简单类型
+     */
+    private final LRUMap<JavaType, ObjectWriter> writers;
+
+    /**
+     * 不指定类型的writer，用于null值
+     */
+    private volatile ObjectWriter defaultWriter;
+
+    public ObjectCodecs(ObjectMapper mapper) {
+        this(mapper, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param mapper     所属ObjectMapper
+     * @param maxEntries 泛型Type、JavaType缓存各自的最大数量
+     */
+    public ObjectCodecs(ObjectMapper mapper, int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive:" + maxEntries);
+        }
+        this.mapper = Objects.requireNonNull(mapper);
+        int initialEntries = Math.min(16, maxEntries);
+        this.genericTypes = new LRUMap<>(initialEntries, maxEntries);
+        this.parametricTypes = new LRUMap<>(initialEntries, maxEntries);
+        this.readers = new LRUMap<>(initialEntries, maxEntries);
+        this.writers = new LRUMap<>(initialEntries, maxEntries);
+    }
+
+    public ObjectMapper getMapper() {
+        return mapper;
+    }
+
+    public TypeFactory typeFactory() {
+        return mapper.getTypeFactory();
+    }
+
+    /**
+     * class对应的JavaType
+     *
+     * @param type class
+     * @return JavaType
+     */
+    public JavaType type(Class<?> type) {
+        return types.get(type);
+    }
+
+    /**
+     * 泛型Type对应的JavaType，Type需要实现equals/hashCode（Class和ParameterizedType均满足）
+     *
+     * @param type 泛型Type
+     * @return JavaType
+     */
+    public JavaType type(Type type) {
+        if (type instanceof Class) {
+            return types.get((Class<?>) type);
+        }
+        JavaType javaType = genericTypes.get(type);
+        if (javaType == null) {
+            javaType = typeFactory().constructType(type);
+            JavaType existing = genericTypes.putIfAbsent(type, javaType);
+            if (existing != null) {
+                javaType = existing;
+            }
+        }
+        return javaType;
+    }
+
+    /**
+     * 多泛型参数类型对应的JavaType，比如Result&lt;R,T,K,V&gt;，同样的原始class和泛型参数返回同一个JavaType实例<br/>
+     * 通过{@link TypeFactory#constructParametricType(Class, JavaType...)}构造，不依赖JDK内部的ParameterizedType实现
+     *
+     * @param rawType        原始class
+     * @param typeParameters 泛型参数，可以是class或者泛型Type
+     * @return JavaType
+     */
+    public JavaType parametricType(Class<?> rawType, Type... typeParameters) {
+        ParametricKey key = new ParametricKey(rawType, typeParameters);
+        JavaType javaType = parametricTypes.get(key);
+        if (javaType == null) {
+            JavaType[] parameters = new JavaType[typeParameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                parameters[i] = type(typeParameters[i]);
+            }
+            javaType = typeFactory().constructParametricType(rawType, parameters);
+            JavaType existing = parametricTypes.putIfAbsent(key, javaType);
+            if (existing != null) {
+                javaType = existing;
+            }
+        }
+        return javaType;
+    }
+
+    /**
+     * List&lt;elementType&gt;对应的JavaType
+     *
+     * @param elementType 元素class
+     * @return JavaType
+     */
+    public JavaType listType(Class<?> elementType) {
+        return listTypes.get(elementType);
+    }
+
+    /**
+     * elementType[]对应的JavaType
+     *
+     * @param elementType 元素class
+     * @return JavaType
+     */
+    public JavaType arrayType(Class<?> elementType) {
+        return arrayTypes.get(elementType);
+    }
+
+    /**
+     * Map&lt;keyType, valueType&gt;对应的JavaType
+     *
+     * @param keyType   key class
+     * @param valueType value class
+     * @return JavaType
+     */
+    public JavaType mapType(Class<?> keyType, Class<?> valueType) {
+        return mapTypes.get(keyType).get(valueType);
+    }
+
+    /**
+     * 获取JavaType对应的reader
+     *
+     * @param type JavaType
+     * @return reader
+     */
+    public ObjectReader reader(JavaType type) {
+        if (isClassType(type)) {
+            return classReaders.get(type.getRawClass());
+        }
+        ObjectReader reader = readers.get(type);
+        if (reader == null) {
+            reader = mapper.readerFor(type);
+            ObjectReader existing = readers.putIfAbsent(type, reader);
+            if (existing != null) {
+                reader = existing;
+            }
+        }
+        return reader;
+    }
+
+    /**
+     * 获取class对应的reader
+     *
+     * @param type class
+     * @return reader
+     */
+    public ObjectReader reader(Class<?> type) {
+        return classReaders.get(type);
+    }
+
+    /**
+     * 获取JavaType对应的writer
+     *
+     * @param type JavaType
+     * @return writer
+     */
+    public ObjectWriter writer(JavaType type) {
+        if (isClassType(type)) {
+            return classWriters.get(type.getRawClass());
+        }
+        ObjectWriter writer = writers.get(type);
+        if (writer == null) {
+            writer = mapper.writerFor(type);
+            ObjectWriter existing = writers.putIfAbsent(type, writer);
+            if (existing != null) {
+                writer = existing;
+            }
+        }
+        return writer;
+    }
+
+    /**
+     * 是否为{@link #type(Class)}返回的class对应的类型，这类类型的reader/writer按class缓存
+     */
+    private boolean isClassType(JavaType type) {
+        return types.get(type.getRawClass()) == type;
+    }
+
+    /**
+     * 按对象运行时class获取writer，对象为null时返回不指定类型的writer
+     *
+     * @param value 对象
+     * @return writer
+     */
+    public ObjectWriter writerFor(Object value) {
+        if (value == null) {
+            ObjectWriter writer = defaultWriter;
+            if (writer == null) {
+                writer = mapper.writer();
+                defaultWriter = writer;
+            }
+            return writer;
+        }
+        return classWriters.get(value.getClass());
+    }
+
+    /**
+     * 预热类型：构建并缓存序列化器、反序列化器以及对应的reader/writer，class同时预热其List类型的reader
+     * 无法构建时抛出{@link IllegalArgumentException}
+     *
+     * @param type class或者泛型Type
+     */
+    public void warmUp(Type type) {
+        JavaType javaType = type(type);
+        AtomicReference<Throwable> cause = new AtomicReference<>();
+        if (!mapper.canDeserialize(javaType, cause)) {
+            throw new IllegalArgumentException("not able to build deserializer for " + javaType, cause.get());
+        }
+        if (!mapper.canSerialize(javaType.getRawClass(), cause)) {
+            throw new IllegalArgumentException("not able to build serializer for " + javaType, cause.get());
+        }
+        reader(javaType);
+        writer(javaType);
+        if (type instanceof Class && !((Class<?>) type).isPrimitive()) {
+            reader(listType((Class<?>) type));
+        }
+    }
+
+    /**
+     * 多泛型参数类型的缓存key
+     */
+    private static final class ParametricKey {
+
+        private final Class<?> rawType;
+
+        private final Type[] typeParameters;
+
+        private final int hash;
+
+        ParametricKey(Class<?> rawType, Type[] typeParameters) {
+            this.rawType = Objects.requireNonNull(rawType);
+            this.typeParameters = typeParameters.clone();
+            this.hash = 31 * rawType.hashCode() + Arrays.hashCode(typeParameters);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ParametricKey)) {
+                return false;
+            }
+            ParametricKey other = (ParametricKey) o;
+            return rawType == other.rawType && Arrays.equals(typeParameters, other.typeParameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.typhus.common.tools.jackson;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.xml.XmlFactory;
+
+/**
+ * 开启{@link BufferRecyclerPool}时从全局池获取BufferRecycler的各格式工厂，关闭时与jackson默认行为一致
+ *
+ * @author typhus-xxj
+ * @version PooledFactories.java, v 0.1 2026年10月18日 23:45 typhus-xxj Exp $
+ */
+public final class PooledFactories {
+
+    private PooledFactories() {
+    }
+
+    /**
+     * json工厂
+     */
+    public static class Json extends JsonFactory {
+
+        private static final long serialVersionUID = 1L;
+
+        public Json() {
+            super();
+        }
+
+        protected Json(Json src, ObjectCodec codec) {
+            super(src, codec);
+        }
+
+        @Override
+        public BufferRecycler _getBufferRecycler() {
+            return BufferRecyclerPool.isEnabled() ? BufferRecyclerPool.get() : super._getBufferRecycler();
+        }
+
+        @Override
+        public JsonFactory copy() {
+            return new Json(this, null);
+        }
+
+        /**
+         * JsonFactory只对自身类返回格式名，子类需要声明为json格式，否则非阻塞解析器等json专属功能不可用
+         */
+        @Override
+        public String getFormatName() {
+            return FORMAT_NAME_JSON;
+        }
+    }
+
+    /**
+     * xml工厂
+     */
+    public static class Xml extends XmlFactory {
+
+        private static final long serialVersionUID = 1L;
+
+        public Xml() {
+            super();
+        }
+
+        protected Xml(Xml src, ObjectCodec codec) {
+            super(src, codec);
+        }
+
+        @Override
+        public BufferRecycler _getBufferRecycler() {
+            return BufferRecyclerPool.isEnabled() ? BufferRecyclerPool.get() : super._getBufferRecycler();
+        }
+
+        @Override
+        public XmlFactory copy() {
+            return new Xml(this, null);
+        }
+    }
+
+    /**
+     * smile工厂
+     */
+    public static class Smile extends SmileFactory {
+
+        private static final long serialVersionUID = 1L;
+
+        public Smile() {
+            super();
+        }
+
+        protected Smile(Smile src, ObjectCodec codec) {
+            super(src, codec);
+        }
+
+        @Override
+        public BufferRecycler _getBufferRecycler() {
+            return BufferRecyclerPool.isEnabled() ? BufferRecyclerPool.get() : super._getBufferRecycler();
+        }
+
+        @Override
+        public SmileFactory copy() {
+            return new Smile(this, null);
+        }
+    }
+
+    /**
+     * cbor工厂
+     */
+    public static class Cbor extends CBORFactory {
+
+        private static final long serialVersionUID = 1L;
+
+        public Cbor() {
+            super();
+        }
+
+        protected Cbor(Cbor src, ObjectCodec codec) {
+            super(src, codec);
+        }
+
+        @Override
+        public BufferRecycler _getBufferRecycler() {
+            return BufferRecyclerPool.isEnabled() ? BufferRecyclerPool.get() : super._getBufferRecycler();
+        }
+
+        @Override
+        public CBORFactory copy() {
+            return new Cbor(this, null);
+        }
+    }
+}
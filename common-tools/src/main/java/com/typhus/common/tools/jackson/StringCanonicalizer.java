@@ -0,0 +1,330 @@
+package com.typhus.common.tools.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 反序列化时的字符串规范化缓存，重复出现的字符串值共享同一个实例<br/>
+ * <p1>适用于状态码、币种、地区这类低基数的字符串，大批量反序列化后常驻内存的数据集可以显著减少重复的String。
+ * 缓存是有界、有损的：固定大小的槽位按hash定位，冲突时直接覆盖，不加锁也不淘汰，
+ * 命中时直接比较解析器缓冲区中的字符，不会先创建String。长度超过{@link #MAX_LENGTH}的字符串不参与缓存。
+ * 通过{@link #forProperties(String...)}、{@link #forTypes(Class[])}限定生效的属性名和bean类型，都不限定时对所有字符串值生效。
+ * 实例应当长期复用，注册了规范化反序列化器的ObjectMapper由实例自身持有，随实例一起回收。
+ * </p1>
+ *
+ * @author typhus-xxj
+ * @version StringCanonicalizer.java, v 0.1 2026年10月18日 23:57 typhus-xxj Exp $
+ */
+public final class StringCanonicalizer {
+
+    /**
+     * 参与缓存的最大字符串长度
+     */
+    public static final int MAX_LENGTH = 64;
+
+    /**
+     * 槽位，数量为2的幂
+     */
+    private final String[] table;
+
+    private final int mask;
+
+    /**
+     * 生效的属性名，为空时不限定
+     */
+    private final Set<String> properties;
+
+    /**
+     * 生效的bean类型（含子类），为空时不限定
+     */
+    private final List<Class<?>> types;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * 注册了{@link #module()}的reader/writer缓存，首次使用时创建
+     */
+    private volatile ObjectCodecs codecs;
+
+    /**
+     * @param capacity 槽位数量，向上取2的幂
+     */
+    public StringCanonicalizer(int capacity) {
+        this(capacity, Collections.emptySet(), Collections.emptyList());
+    }
+
+    private StringCanonicalizer(int capacity, Set<String> properties, List<Class<?>> types) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive:" + capacity);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.table = new String[size];
+        this.mask = size - 1;
+        this.properties = properties;
+        this.types = types;
+    }
+
+    /**
+     * 只对指定名称的bean属性生效，返回新的实例
+     *
+     * @param names 属性名
+     * @return 新的StringCanonicalizer
+     */
+    public StringCanonicalizer forProperties(String... names) {
+        Set<String> merged = new HashSet<>(properties);
+        merged.addAll(Arrays.asList(names));
+        return new StringCanonicalizer(table.length, Collections.unmodifiableSet(merged), types);
+    }
+
+    /**
+     * 只对指定bean类型（含子类）的字符串属性生效，返回新的实例
+     *
+     * @param beanTypes bean类型
+     * @return 新的StringCanonicalizer
+     */
+    public StringCanonicalizer forTypes(Class<?>... beanTypes) {
+        List<Class<?>> merged = new ArrayList<>(types);
+        merged.addAll(Arrays.asList(beanTypes));
+        return new StringCanonicalizer(table.length, properties, Collections.unmodifiableList(merged));
+    }
+
+    /**
+     * 返回与value相等的缓存实例，未命中时缓存value
+     *
+     * @param value 字符串
+     * @return 规范化后的字符串
+     */
+    public String canonicalize(String value) {
+        if (value == null || value.length() > MAX_LENGTH) {
+            return value;
+        }
+        int index = spread(value.hashCode()) & mask;
+        String cached = table[index];
+        if (value.equals(cached)) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        table[index] = value;
+        return value;
+    }
+
+    /**
+     * 返回与字符数组片段相等的缓存实例，命中时不创建String
+     *
+     * @param chars  字符数组
+     * @param offset 起始位置
+     * @param length 长度
+     * @return 规范化后的字符串
+     */
+    public String canonicalize(char[] chars, int offset, int length) {
+        if (length > MAX_LENGTH) {
+            return new String(chars, offset, length);
+        }
+        // 与String.hashCode算法一致，保证两个canonicalize方法定位到同一个槽位
+        int hash = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int index = spread(hash) & mask;
+        String cached = table[index];
+        if (cached != null && equals(cached, chars, offset, length)) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        String value = new String(chars, offset, length);
+        table[index] = value;
+        return value;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean equals(String cached, char[] chars, int offset, int length) {
+        if (cached.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (cached.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 命中次数
+     *
+     * @return 次数
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * 未命中次数
+     *
+     * @return 次数
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * 命中率
+     *
+     * @return 0到1之间，未发生过查找时为0
+     */
+    public double hitRate() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    /**
+     * 清零命中统计，不清空缓存
+     */
+    public void resetStats() {
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * 槽位数量
+     *
+     * @return 数量
+     */
+    public int capacity() {
+        return table.length;
+    }
+
+    /**
+     * 注册规范化反序列化器的jackson模块
+     *
+     * @return 模块
+     */
+    public Module module() {
+        SimpleModule module = new SimpleModule("StringCanonicalizer");
+        CanonicalStringDeserializer deserializer = new CanonicalStringDeserializer(this);
+        if (properties.isEmpty() && types.isEmpty()) {
+            module.addDeserializer(String.class, deserializer);
+            return module;
+        }
+        module.setDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public BeanDeserializerBuilder updateBuilder(DeserializationConfig config, BeanDescription beanDesc,
+                                                         BeanDeserializerBuilder builder) {
+                if (!matchesType(beanDesc.getBeanClass())) {
+                    return builder;
+                }
+                Iterator<SettableBeanProperty> iterator = builder.getProperties();
+                List<SettableBeanProperty> replaced = new ArrayList<>();
+                while (iterator.hasNext()) {
+                    SettableBeanProperty property = iterator.next();
+                    if (property.getType().hasRawClass(String.class) && !property.hasValueDeserializer()
+                            && (properties.isEmpty() || properties.contains(property.getName()))) {
+                        replaced.add(property.withValueDeserializer(deserializer));
+                    }
+                }
+                for (SettableBeanProperty property : replaced) {
+                    builder.addOrReplaceProperty(property, true);
+                }
+                return builder;
+            }
+        });
+        return module;
+    }
+
+    /**
+     * 获取注册了规范化反序列化器的reader/writer缓存，首次调用时由mapperFactory创建ObjectMapper并注册{@link #module()}，
+     * 之后的调用直接返回同一个缓存，不再使用mapperFactory
+     *
+     * @param mapperFactory 创建未注册本模块的ObjectMapper
+     * @return reader/writer缓存
+     */
+    public ObjectCodecs codecs(Supplier<ObjectMapper> mapperFactory) {
+        ObjectCodecs result = codecs;
+        if (result == null) {
+            synchronized (this) {
+                result = codecs;
+                if (result == null) {
+                    result = new ObjectCodecs(mapperFactory.get().registerModule(module()));
+                    codecs = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean matchesType(Class<?> beanClass) {
+        if (types.isEmpty()) {
+            return true;
+        }
+        for (Class<?> type : types) {
+            if (type.isAssignableFrom(beanClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "StringCanonicalizer{capacity=" + table.length + ", hits=" + getHits() + ", misses=" + getMisses()
+                + ", hitRate=" + String.format("%.4f", hitRate()) + "}";
+    }
+
+    /**
+     * 字符串值经过规范化缓存的反序列化器，非字符串token按jackson默认规则转换后再规范化
+     */
+    private static final class CanonicalStringDeserializer extends StdScalarDeserializer<String> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient StringCanonicalizer canonicalizer;
+
+        CanonicalStringDeserializer(StringCanonicalizer canonicalizer) {
+            super(String.class);
+            this.canonicalizer = canonicalizer;
+        }
+
+        @Override
+        public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_STRING)) {
+                return canonicalizer.canonicalize(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+            }
+            return canonicalizer.canonicalize(StringDeserializer.instance.deserialize(p, ctxt));
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+    }
+}
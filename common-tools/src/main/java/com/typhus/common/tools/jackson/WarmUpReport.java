@@ -0,0 +1,120 @@
+package com.typhus.common.tools.jackson;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 预热结果：预热成功的类型、失败的类型及原因、总耗时
+ *
+ * @author typhus-xxj
+ * @version WarmUpReport.java, v 0.1 2026年10月18日 23:20 typhus-xxj Exp $
+ */
+public final class WarmUpReport {
+
+    /**
+     * 预热成功的类型，json和xml都成功
+     */
+    private final List<Type> warmed;
+
+    /**
+     * 预热失败的类型 -> 异常，包括扫描时无法加载的class；json和xml都失败时为json的异常
+     */
+    private final Map<Type, Throwable> failed;
+
+    /**
+     * json预热失败的类型 -> 异常
+     */
+    private final Map<Type, Throwable> jsonFailed;
+
+    /**
+     * xml预热失败的类型 -> 异常
+     */
+    private final Map<Type, Throwable> xmlFailed;
+
+    /**
+     * 总耗时，毫秒
+     */
+    private final long elapsedMillis;
+
+    public WarmUpReport(List<Type> warmed, Map<Type, Throwable> failed, Map<Type, Throwable> jsonFailed,
+                        Map<Type, Throwable> xmlFailed, long elapsedMillis) {
+        this.warmed = Collections.unmodifiableList(warmed);
+        this.failed = Collections.unmodifiableMap(failed);
+        this.jsonFailed = Collections.unmodifiableMap(jsonFailed);
+        this.xmlFailed = Collections.unmodifiableMap(xmlFailed);
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public List<Type> getWarmed() {
+        return warmed;
+    }
+
+    public Map<Type, Throwable> getFailed() {
+        return failed;
+    }
+
+    public Map<Type, Throwable> getJsonFailed() {
+        return jsonFailed;
+    }
+
+    public Map<Type, Throwable> getXmlFailed() {
+        return xmlFailed;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("jackson warm-up: ").append(warmed.size()).append(" types warmed, ")
+                .append(failed.size()).append(" failed, ").append(elapsedMillis).append(" ms");
+        for (Map.Entry<Type, Throwable> entry : failed.entrySet()) {
+            Type type = entry.getKey();
+            builder.append("\n  ").append(type.getTypeName());
+            if (jsonFailed.containsKey(type)) {
+                builder.append(" [json").append(xmlFailed.containsKey(type) ? ", xml]" : "]");
+            } else if (xmlFailed.containsKey(type)) {
+                builder.append(" [xml]");
+            } else {
+                builder.append(" [load]");
+            }
+            builder.append(": ").append(entry.getValue());
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 扫描时无法加载的class，只有类名
+     */
+    public static final class UnloadedClass implements Type {
+
+        private final String className;
+
+        public UnloadedClass(String className) {
+            this.className = className;
+        }
+
+        @Override
+        public String getTypeName() {
+            return className;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof UnloadedClass && className.equals(((UnloadedClass) o).className);
+        }
+
+        @Override
+        public int hashCode() {
+            return className.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return className;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.typhus.common.tools.jackson;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.xml.XmlFactory;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 基于StAX的xml重复元素迭代器<br/>
+ * <p1>XMLStreamReader逐个定位到指定名称（local name，不区分命名空间）的元素，每次只绑定一个元素，
+ * 内存占用与单条记录相当，与整个文档大小无关。匹配的元素内部不再查找同名元素。
+ * 非线程安全；关闭迭代器时关闭XMLStreamReader，不关闭输入流。
+ * </p1>
+ *
+ * @param <T> 元素类型
+ * @author typhus-xxj
+ * @version XmlElementIterator.java, v 0.1 2026年10月18日 22:45 typhus-xxj Exp $
+ */
+public final class XmlElementIterator<T> implements Iterator<T>, Closeable {
+
+    private final XmlFactory factory;
+
+    private final XMLStreamReader xmlReader;
+
+    private final ObjectReader reader;
+
+    private final String elementName;
+
+    /**
+     * 是否已定位到下一个元素
+     */
+    private boolean positioned;
+
+    private boolean finished;
+
+    /**
+     * @param factory     XmlMapper的XmlFactory
+     * @param reader      元素类型的ObjectReader，需要由同一个XmlMapper创建
+     * @param in          输入流
+     * @param elementName 重复元素的名称
+     * @throws IOException 创建XMLStreamReader失败
+     */
+    public XmlElementIterator(XmlFactory factory, ObjectReader reader, InputStream in, String elementName) throws IOException {
+        this.factory = factory;
+        this.reader = reader;
+        this.elementName = elementName;
+        try {
+            this.xmlReader = factory.getXMLInputFactory().createXMLStreamReader(in);
+        } catch (XMLStreamException e) {
+            throw new IOException("not able to create xml stream reader", e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (positioned) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        try {
+            while (xmlReader.hasNext()) {
+                if (xmlReader.next() == XMLStreamConstants.START_ELEMENT && elementName.equals(xmlReader.getLocalName())) {
+                    positioned = true;
+                    return true;
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new RuntimeException("not able to read xml element " + elementName, e);
+        }
+        finished = true;
+        return false;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        positioned = false;
+        try {
+            // 解析器从当前START_ELEMENT开始，绑定到对应的END_ELEMENT为止
+            return reader.readValue(factory.createParser(xmlReader));
+        } catch (IOException e) {
+            throw new RuntimeException("not able to bind xml element " + elementName, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        positioned = false;
+        try {
+            xmlReader.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+}
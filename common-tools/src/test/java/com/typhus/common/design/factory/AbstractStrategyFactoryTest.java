@@ -3,9 +3,16 @@ package com.typhus.common.design.factory;
 import com.typhus.common.enums.EnableEnum;
 import com.typhus.common.test.EnableFactory;
 import com.typhus.common.test.EnableStrategy;
+import org.junit.Assert;
 import org.junit.Test;
+import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.stereotype.Component;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.Collections;
+import java.util.Set;
 
 /**
  * 测试抽象工厂
@@ -13,18 +20,29 @@ import org.springframework.boot.test.context.SpringBootTest;
  * @author typhus-xxj
  * @version AbstractStrategyFactoryTest.java, v 0.1 2023年07月13日 14:25 typhus-xxj Exp $
  */
-@SpringBootTest
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = {EnableFactory.class, AbstractStrategyFactoryTest.YesStrategy.class})
 public class AbstractStrategyFactoryTest {
 
     @Autowired
     private EnableFactory enableFactory;
 
+    @Autowired
+    private YesStrategy yesStrategy;
+
     @Test
     public void test(){
         EnableStrategy strategies = enableFactory.getStrategies(EnableEnum.YES);
-
-
+        Assert.assertSame(yesStrategy, strategies);
+        Assert.assertNull(enableFactory.getStrategies(EnableEnum.NO));
     }
 
+    @Component
+    public static class YesStrategy implements EnableStrategy {
 
+        @Override
+        public Set<EnableEnum> getImpl() {
+            return Collections.singleton(EnableEnum.YES);
+        }
+    }
 }
@@ -1,11 +1,34 @@
 package com.typhus.common.tools;
 
 import cn.hutool.core.collection.ListUtil;
+import com.typhus.common.enums.EnableEnum;
+import com.typhus.common.tools.convert.BeanCopier;
+import com.typhus.common.tools.convert.CopyProfile;
+import com.typhus.common.tools.convert.GenerateMapper;
+import com.typhus.common.tools.convert.Instantiators;
+import com.typhus.common.tools.convert.TargetPool;
+import com.typhus.common.tools.convert.TypeConverters;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
-
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.FatalBeanException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 测试 ConvertUtils
@@ -71,10 +94,383 @@ public class ConvertUtilsTest {
         System.out.println("convert = " + JacksonUtil.bean2String(convert));
     }
 
+    @Test
+    public void testCopierSameAsBeanUtils() {
+        EmployeeVO expected = new EmployeeVO();
+        BeanUtils.copyProperties(employeeDO, expected);
+        EmployeeVO actual = ConvertUtils.convert(employeeDO, new EmployeeVO());
+
+        Assert.assertEquals(JacksonUtil.bean2String(expected), JacksonUtil.bean2String(actual));
+        Assert.assertNull(actual.getFiledVOS());
+        Assert.assertSame(BeanCopier.of(EmployeeDO.class, EmployeeVO.class), BeanCopier.of(EmployeeDO.class, EmployeeVO.class));
+    }
+
+    @Test
+    public void testGeneratedMapper() {
+        Assert.assertTrue(BeanCopier.of(EmployeeDO.class, EmployeeVO.class).isGenerated());
+        Assert.assertFalse(BeanCopier.of(filedDO.class, filedVO.class).isGenerated());
+
+        EmployeeVO expected = new EmployeeVO();
+        BeanUtils.copyProperties(employeeDO, expected);
+        EmployeeVO actual = new EmployeeVO();
+        new EmployeeDOToEmployeeVOMapper().map(employeeDO, actual);
+        Assert.assertEquals(JacksonUtil.bean2String(expected), JacksonUtil.bean2String(actual));
+    }
+
+    @Test
+    public void testCopierPublicTypes() {
+        PublicSource source = new PublicSource();
+        source.setId(7L);
+        source.setCount(3);
+        source.setNames(ListUtil.of("x"));
+        PublicTarget target = ConvertUtils.convert(source, PublicTarget::new);
+
+        Assert.assertEquals(7L, target.getId());
+        Assert.assertEquals(Integer.valueOf(3), target.getCount());
+        Assert.assertEquals(ListUtil.of("x"), target.getNames());
+    }
+
+    @Test
+    public void testInstantiator() {
+        Supplier<EmployeeVO> instantiator = Instantiators.of(EmployeeVO.class);
+        Assert.assertSame(instantiator, Instantiators.of(EmployeeVO.class));
+        Assert.assertNotSame(instantiator.get(), instantiator.get());
+        Assert.assertNotNull(Instantiators.of(PublicTarget.class).get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInstantiatorWithoutNoArgConstructor() {
+        ConvertUtils.prepare(EmployeeDO.class, NoDefaultConstructor.class);
+    }
+
+    @Test
+    public void testConvertParallel() {
+        List<EmployeeDO> sources = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            EmployeeDO source = new EmployeeDO();
+            source.setAge(i);
+            sources.add(i == 5 ? null : source);
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<EmployeeVO> result = ConvertUtils.convertParallel(sources, EmployeeVO.class, null, pool);
+            Assert.assertEquals(9999, result.size());
+            for (int i = 0; i < result.size(); i++) {
+                Assert.assertEquals(Integer.valueOf(i < 5 ? i : i + 1), result.get(i).getAge());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testConvertParallelFailure() {
+        List<Integer> sources = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            sources.add(i);
+        }
+        for (int round = 0; round < 5; round++) {
+            try {
+                ConvertUtils.convertParallel(sources, i -> {
+                    if (i == 1000 || i == 8000) {
+                        throw new IllegalStateException("fail at " + i);
+                    }
+                    return i;
+                });
+                Assert.fail();
+            } catch (IllegalStateException e) {
+                Assert.assertEquals("fail at 1000", e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testConvertLazily() {
+        AtomicInteger converted = new AtomicInteger();
+        Stream<EmployeeVO> stream = ConvertUtils.convert(Stream.of(employeeDO, null, employeeDOList.get(1)),
+                EmployeeVO.class, (f, t) -> converted.incrementAndGet());
+        Assert.assertEquals(0, converted.get());
+        Assert.assertEquals(ListUtil.of("Jack", "Sari"), stream.map(EmployeeVO::getName).collect(Collectors.toList()));
+        Assert.assertEquals(2, converted.get());
+
+        Iterator<EmployeeVO> iterator = ConvertUtils.convert(employeeDOList.iterator(), EmployeeVO.class);
+        Assert.assertEquals("Jack", iterator.next().getName());
+        Assert.assertEquals("Sari", iterator.next().getName());
+        Assert.assertFalse(iterator.hasNext());
+
+        Assert.assertEquals(2, ConvertUtils.convert(employeeDOList.spliterator(), EmployeeVO.class, null).count());
+    }
+
+    @Test
+    public void testConvertDeep() {
+        DeptDO deptDO = new DeptDO();
+        deptDO.setName("dev");
+        deptDO.setMembers(employeeDOList);
+        deptDO.setLeader(employeeDO);
+        deptDO.setSelf(deptDO);
+        Map<String, EmployeeDO> byName = new HashMap<>();
+        byName.put("Jack", employeeDO);
+        deptDO.setByName(byName);
+
+        DeptVO deptVO = ConvertUtils.convertDeep(deptDO, DeptVO.class);
+        Assert.assertEquals("dev", deptVO.getName());
+        Assert.assertEquals(2, deptVO.getMembers().size());
+        Assert.assertEquals("Sari", deptVO.getMembers().get(1).getName());
+        Assert.assertSame(deptVO.getLeader(), deptVO.getMembers().get(0));
+        Assert.assertSame(deptVO.getLeader(), deptVO.getByName().get("Jack"));
+        Assert.assertSame(deptVO, deptVO.getSelf());
+
+        List<DeptVO> deptVOS = ConvertUtils.convertDeep(ListUtil.of(deptDO, deptDO), DeptVO.class);
+        Assert.assertSame(deptVOS.get(0), deptVOS.get(1));
+
+        // 两个部门共享同一个成员列表和map，转换后仍然共享
+        DeptDO other = new DeptDO();
+        other.setMembers(employeeDOList);
+        other.setByName(byName);
+        deptVOS = ConvertUtils.convertDeep(ListUtil.of(deptDO, other), DeptVO.class);
+        Assert.assertSame(deptVOS.get(0).getMembers(), deptVOS.get(1).getMembers());
+        Assert.assertSame(deptVOS.get(0).getByName(), deptVOS.get(1).getByName());
+
+        // 同一个来源列表转换为不同元素类型的属性，不能复用
+        TeamDO teamDO = new TeamDO();
+        teamDO.setMembers(employeeDOList);
+        teamDO.setStaff(employeeDOList);
+        TeamVO teamVO = ConvertUtils.convertDeep(teamDO, TeamVO.class);
+        Assert.assertNotSame(teamVO.getMembers(), teamVO.getStaff());
+        Assert.assertEquals("Jack", teamVO.getMembers().get(0).getName());
+        Assert.assertEquals("Sari", teamVO.getStaff().get(1).getName());
+        Assert.assertSame(NameVO.class, teamVO.getStaff().get(0).getClass());
+    }
+
+    @Test
+    public void testTypeConverters() {
+        Date now = new Date();
+        StatusDO statusDO = new StatusDO();
+        statusDO.setStatus(1);
+        statusDO.setCreateTime(now);
+        StatusVO statusVO = ConvertUtils.convert(statusDO, StatusVO::new);
+
+        Assert.assertTrue(BeanCopier.of(StatusDO.class, StatusVO.class).isGenerated());
+        Assert.assertEquals(EnableEnum.YES, statusVO.getStatus());
+        Assert.assertEquals(now.getTime(), statusVO.getCreateTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        Assert.assertEquals(0L, statusVO.getCount());
+
+        statusVO.setStatus(EnableEnum.NO);
+        statusVO.setCount(5L);
+        StatusDO back = ConvertUtils.convert(statusVO, StatusDO::new);
+        Assert.assertEquals(Integer.valueOf(0), back.getStatus());
+        Assert.assertEquals(now, back.getCreateTime());
+        Assert.assertEquals(Long.valueOf(5L), back.getCount());
+
+        Assert.assertEquals(EnableEnum.YES, TypeConverters.codeOf(EnableEnum.class, 1));
+
+        // 多个父类型都有转换器时，使用最近的父类，其次是接口
+        TypeConverters.register(Comparable.class, StringBuilder.class, value -> new StringBuilder("comparable"));
+        TypeConverters.register(Number.class, StringBuilder.class, value -> new StringBuilder("number"));
+        Assert.assertEquals("number", TypeConverters.find(Integer.class, StringBuilder.class).apply(1).toString());
+        Assert.assertEquals("comparable", TypeConverters.find(String.class, StringBuilder.class).apply("a").toString());
+    }
+
+    @Test
+    public void testCopyProfile() {
+        CopyProfile.register(CopyProfile.builder("patch").skipNull().exclude("age").build());
+        CopyProfile.register(CopyProfile.builder("nameOnly").include("name").build());
+
+        EmployeeVO target = new EmployeeVO();
+        target.setAge(30);
+        target.setSalary(100D);
+        EmployeeDO patch = new EmployeeDO();
+        patch.setName("Tom");
+        patch.setAge(40);
+        ConvertUtils.convertWithProfile(patch, target, "patch");
+        Assert.assertEquals("Tom", target.getName());
+        Assert.assertEquals(Integer.valueOf(30), target.getAge());
+        Assert.assertEquals(Double.valueOf(100D), target.getSalary());
+
+        List<EmployeeVO> names = ConvertUtils.convertWithProfile(employeeDOList, EmployeeVO.class, "nameOnly");
+        Assert.assertEquals("Sari", names.get(1).getName());
+        Assert.assertNull(names.get(1).getAge());
+        Assert.assertFalse(BeanCopier.of(EmployeeDO.class, EmployeeVO.class, CopyProfile.get("nameOnly")).isGenerated());
+
+        // 预先获取的配置直接复用
+        CopyProfile nameOnly = CopyProfile.get("nameOnly");
+        EmployeeVO named = ConvertUtils.convertWithProfile(employeeDO, EmployeeVO::new, nameOnly);
+        Assert.assertEquals("Jack", named.getName());
+        Assert.assertNull(named.getAge());
+        Assert.assertEquals(2, ConvertUtils.convertWithProfile(employeeDOList, EmployeeVO.class, nameOnly).size());
+    }
+
+    @Test
+    public void testConvertInto() {
+        List<EmployeeVO> targets = ListUtil.of(new EmployeeVO(), new EmployeeVO());
+        EmployeeVO first = targets.get(0);
+        Assert.assertSame(targets, ConvertUtils.convertInto(employeeDOList, targets));
+        Assert.assertSame(first, targets.get(0));
+        Assert.assertEquals("Sari", targets.get(1).getName());
+
+        EmployeeVO[] array = {new EmployeeVO(), new EmployeeVO(), new EmployeeVO()};
+        ConvertUtils.convertInto(employeeDOList.toArray(new EmployeeDO[0]), array, 2);
+        Assert.assertEquals("Jack", array[0].getName());
+        Assert.assertNull(array[2].getName());
+
+        List<EmployeeVO> withNull = new ArrayList<>(ListUtil.of(new EmployeeVO()));
+        withNull.add(null);
+        try {
+            ConvertUtils.convertInto(employeeDOList, withNull);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().contains("[1]"));
+        }
+        Assert.assertNull(withNull.get(0).getName());
+    }
+
+    @Test
+    public void testConvertPooled() {
+        TargetPool<EmployeeVO> pool = new TargetPool<>(EmployeeVO.class, 4, t -> t.setName(null));
+        List<EmployeeVO> out = new ArrayList<>();
+        ConvertUtils.convertPooled(employeeDOList, pool, out);
+        EmployeeVO first = out.get(0);
+        Assert.assertEquals("Jack", first.getName());
+        pool.releaseAll(out);
+        Assert.assertTrue(out.isEmpty());
+        Assert.assertEquals(2, pool.idleCount());
+        Assert.assertNull(first.getName());
+
+        EmployeeVO reused = ConvertUtils.convertPooled(employeeDO, pool);
+        Assert.assertSame(first, reused);
+        Assert.assertEquals("Jack", reused.getName());
+        Assert.assertEquals(1, pool.idleCount());
+    }
+
+    @Test
+    public void testGeneratedMatchesReflective() {
+        WideningDO source = new WideningDO();
+        source.setCount(3);
+        source.setTotal(4);
+        source.setBoxed(5);
+        source.setId(6L);
+        source.setName("w");
+        Assert.assertTrue(BeanCopier.of(WideningDO.class, WideningVO.class).isGenerated());
+        WideningVO generated = ConvertUtils.convert(source, WideningVO::new);
+        WideningVO reflective = new WideningVO();
+        BeanUtils.copyProperties(source, reflective);
+        // 基本类型拓宽（int -> double、Integer -> long）两边都不拷贝
+        Assert.assertEquals(0D, generated.getCount(), 0D);
+        Assert.assertEquals(0L, generated.getTotal());
+        Assert.assertEquals(ConvertUtils.bean2Map(reflective), ConvertUtils.bean2Map(generated));
+        Assert.assertEquals("w", generated.getName());
+        Assert.assertEquals(5, generated.getBoxed());
+    }
+
+    @Test
+    public void testMapBean() {
+        Map<String, Object> map = ConvertUtils.bean2Map(employeeDO);
+        Assert.assertEquals("Jack", map.get("name"));
+        Assert.assertFalse(map.containsKey("class"));
+
+        EmployeeVO employeeVO = ConvertUtils.map2Bean(map, EmployeeVO.class);
+        Assert.assertEquals(ConvertUtils.bean2Map(ConvertUtils.convert(employeeDO, EmployeeVO::new)), ConvertUtils.bean2Map(employeeVO));
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("status", 1);
+        payload.put("count", 3);
+        payload.put("unknown", "ignored");
+        StatusVO statusVO = ConvertUtils.map2Bean(payload, StatusVO.class);
+        Assert.assertEquals(EnableEnum.YES, statusVO.getStatus());
+        Assert.assertEquals(3L, statusVO.getCount());
+
+        // 数值精确转换，溢出或者丢失小数部分时抛出异常
+        Assert.assertEquals(Integer.valueOf(20), ConvertUtils.map2Bean(Collections.singletonMap("age", 20L), EmployeeVO.class).getAge());
+        for (Object age : Arrays.asList(1L << 40, 3.9D)) {
+            try {
+                ConvertUtils.map2Bean(Collections.singletonMap("age", age), EmployeeVO.class);
+                Assert.fail();
+            } catch (FatalBeanException e) {
+                Assert.assertTrue(e.getCause() instanceof ArithmeticException);
+            }
+        }
+
+        // 集合元素按泛型类型转换，map元素转换为bean
+        Map<String, Object> filed = Collections.singletonMap("filed", "VO");
+        employeeVO = ConvertUtils.map2Bean(Collections.singletonMap("filedVOS", Collections.singletonList(filed)), EmployeeVO.class);
+        Assert.assertEquals("VO", employeeVO.getFiledVOS().get(0).getFiled());
+        try {
+            ConvertUtils.map2Bean(Collections.singletonMap("filedVOS", Collections.singletonList(1)), EmployeeVO.class);
+            Assert.fail();
+        } catch (FatalBeanException e) {
+            Assert.assertTrue(e.getMessage().contains("filedVOS"));
+        }
+    }
+
+    public static class NoDefaultConstructor {
+        public NoDefaultConstructor(String name) {
+        }
+    }
+
+    public static class PublicSource {
+        private Long id;
+        private int count;
+        private List<String> names;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public List<String> getNames() {
+            return names;
+        }
+
+        public void setNames(List<String> names) {
+            this.names = names;
+        }
+    }
+
+    public static class PublicTarget {
+        private long id;
+        private Integer count;
+        private List<String> names;
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public Integer getCount() {
+            return count;
+        }
+
+        public void setCount(Integer count) {
+            this.count = count;
+        }
+
+        public List<String> getNames() {
+            return names;
+        }
+
+        public void setNames(List<String> names) {
+            this.names = names;
+        }
+    }
 
 }
 
 
+@GenerateMapper(targets = EmployeeVO.class)
 class EmployeeDO {
     /**
      * 年龄
@@ -244,4 +640,337 @@ class filedVO {
     public void setFiled(String filed) {
         this.filed = filed;
     }
-}
\ No newline at end of file
+}
+class DeptDO {
+    private String name;
+
+    private List<EmployeeDO> members;
+
+    private EmployeeDO leader;
+
+    private Map<String, EmployeeDO> byName;
+
+    private DeptDO self;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<EmployeeDO> getMembers() {
+        return members;
+    }
+
+    public void setMembers(List<EmployeeDO> members) {
+        this.members = members;
+    }
+
+    public EmployeeDO getLeader() {
+        return leader;
+    }
+
+    public void setLeader(EmployeeDO leader) {
+        this.leader = leader;
+    }
+
+    public Map<String, EmployeeDO> getByName() {
+        return byName;
+    }
+
+    public void setByName(Map<String, EmployeeDO> byName) {
+        this.byName = byName;
+    }
+
+    public DeptDO getSelf() {
+        return self;
+    }
+
+    public void setSelf(DeptDO self) {
+        this.self = self;
+    }
+}
+
+class DeptVO {
+    private String name;
+
+    private List<EmployeeVO> members;
+
+    private EmployeeVO leader;
+
+    private Map<String, EmployeeVO> byName;
+
+    private DeptVO self;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<EmployeeVO> getMembers() {
+        return members;
+    }
+
+    public void setMembers(List<EmployeeVO> members) {
+        this.members = members;
+    }
+
+    public EmployeeVO getLeader() {
+        return leader;
+    }
+
+    public void setLeader(EmployeeVO leader) {
+        this.leader = leader;
+    }
+
+    public Map<String, EmployeeVO> getByName() {
+        return byName;
+    }
+
+    public void setByName(Map<String, EmployeeVO> byName) {
+        this.byName = byName;
+    }
+
+    public DeptVO getSelf() {
+        return self;
+    }
+
+    public void setSelf(DeptVO self) {
+        this.self = self;
+    }
+}
+
+class TeamDO {
+    private List<EmployeeDO> members;
+
+    private List<EmployeeDO> staff;
+
+    public List<EmployeeDO> getMembers() {
+        return members;
+    }
+
+    public void setMembers(List<EmployeeDO> members) {
+        this.members = members;
+    }
+
+    public List<EmployeeDO> getStaff() {
+        return staff;
+    }
+
+    public void setStaff(List<EmployeeDO> staff) {
+        this.staff = staff;
+    }
+}
+
+class TeamVO {
+    private List<EmployeeVO> members;
+
+    private List<NameVO> staff;
+
+    public List<EmployeeVO> getMembers() {
+        return members;
+    }
+
+    public void setMembers(List<EmployeeVO> members) {
+        this.members = members;
+    }
+
+    public List<NameVO> getStaff() {
+        return staff;
+    }
+
+    public void setStaff(List<NameVO> staff) {
+        this.staff = staff;
+    }
+}
+
+class NameVO {
+    private String name;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
+
+@GenerateMapper(targets = WideningVO.class)
+class WideningDO {
+    private int count;
+
+    private Integer total;
+
+    private Integer boxed;
+
+    private long id;
+
+    private String name;
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public Integer getTotal() {
+        return total;
+    }
+
+    public void setTotal(Integer total) {
+        this.total = total;
+    }
+
+    public Integer getBoxed() {
+        return boxed;
+    }
+
+    public void setBoxed(Integer boxed) {
+        this.boxed = boxed;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
+
+class WideningVO {
+    private double count;
+
+    private long total;
+
+    private int boxed;
+
+    private Long id;
+
+    private String name;
+
+    public double getCount() {
+        return count;
+    }
+
+    public void setCount(double count) {
+        this.count = count;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public int getBoxed() {
+        return boxed;
+    }
+
+    public void setBoxed(int boxed) {
+        this.boxed = boxed;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setName(CharSequence name) {
+        this.name = name == null ? null : name.toString();
+    }
+}
+
+@GenerateMapper(targets = StatusVO.class)
+class StatusDO {
+    private Integer status;
+
+    private Date createTime;
+
+    private Long count;
+
+    public Integer getStatus() {
+        return status;
+    }
+
+    public void setStatus(Integer status) {
+        this.status = status;
+    }
+
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    public void setCreateTime(Date createTime) {
+        this.createTime = createTime;
+    }
+
+    public Long getCount() {
+        return count;
+    }
+
+    public void setCount(Long count) {
+        this.count = count;
+    }
+}
+
+class StatusVO {
+    private EnableEnum status;
+
+    private LocalDateTime createTime;
+
+    private long count;
+
+    public EnableEnum getStatus() {
+        return status;
+    }
+
+    public void setStatus(EnableEnum status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreateTime() {
+        return createTime;
+    }
+
+    public void setCreateTime(LocalDateTime createTime) {
+        this.createTime = createTime;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,649 @@
+package com.typhus.common.tools;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.typhus.common.enums.EnableEnum;
+import com.typhus.common.tools.jackson.AsyncJsonReader;
+import com.typhus.common.tools.jackson.GenerateJsonCodec;
+import com.typhus.common.tools.jackson.GeneratedJsonCodecs;
+import com.typhus.common.tools.jackson.MappedFileInputStream;
+import com.typhus.common.tools.jackson.StringCanonicalizer;
+import com.typhus.common.tools.jackson.WarmUpReport;
+import com.typhus.common.tools.jackson.XmlElementIterator;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 测试 JacksonUtil
+ *
+ * @author typhus-xxj
+ * @version JacksonUtilTest.java, v 0.1 2026年10月18日 20:40 typhus-xxj Exp $
+ */
+public class JacksonUtilTest {
+
+    private static User user() {
+        User user = new User();
+        user.setName("Jack");
+        user.setAge(18);
+        return user;
+    }
+
+    @Test
+    public void testBytes() {
+        User user = user();
+        byte[] jsonBytes = JacksonUtil.bean2Bytes(user);
+        Assert.assertEquals(JacksonUtil.bean2String(user), new String(jsonBytes, StandardCharsets.UTF_8));
+        Assert.assertEquals(user, JacksonUtil.bytes2Bean(jsonBytes, User.class));
+
+        byte[] xmlBytes = JacksonUtil.bean2BytesWithXml(user);
+        Assert.assertEquals(JacksonUtil.bean2StringWithXml(user), new String(xmlBytes, StandardCharsets.UTF_8));
+        Assert.assertEquals(user, JacksonUtil.bytes2BeanWithXml(xmlBytes, User.class));
+    }
+
+    @Test
+    public void testBinaryFormats() {
+        User user = user();
+        byte[] smile = JacksonUtil.bean2BytesWithSmile(user);
+        Assert.assertEquals(user, JacksonUtil.bytes2BeanWithSmile(smile, User.class));
+        byte[] cbor = JacksonUtil.bean2BytesWithCbor(user);
+        Assert.assertEquals(user, JacksonUtil.bytes2BeanWithCbor(cbor, User.class));
+        Assert.assertTrue(cbor.length < JacksonUtil.bean2Bytes(user).length);
+
+        List<User> users = Arrays.asList(user(), user());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JacksonUtil.writeToWithSmile(users, out);
+        Assert.assertEquals(users, JacksonUtil.bytes2BeanWithSmile(out.toByteArray(), new TypeReference<List<User>>() {
+        }));
+        out.reset();
+        JacksonUtil.writeToWithCbor(user, out);
+        Assert.assertEquals(user, JacksonUtil.readWithCbor(new ByteArrayInputStream(out.toByteArray()), User.class));
+    }
+
+    @Test
+    public void testGlobalBufferPool() {
+        User user = user();
+        String expected = JacksonUtil.bean2String(user);
+        JacksonUtil.setGlobalBufferPool(true);
+        try {
+            Assert.assertEquals(expected, JacksonUtil.bean2String(user));
+            Assert.assertEquals(user, JacksonUtil.string2Bean(expected, User.class));
+            Assert.assertEquals(user, JacksonUtil.bytes2BeanWithXml(JacksonUtil.bean2BytesWithXml(user), User.class));
+            Assert.assertEquals(user, JacksonUtil.bytes2BeanWithSmile(JacksonUtil.bean2BytesWithSmile(user), User.class));
+        } finally {
+            JacksonUtil.setGlobalBufferPool(false);
+        }
+    }
+
+    @Test
+    public void testStream() {
+        User user = user();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JacksonUtil.writeTo(user, out);
+        Assert.assertEquals(user, JacksonUtil.read(new ByteArrayInputStream(out.toByteArray()), User.class));
+
+        out.reset();
+        JacksonUtil.writeToWithXml(user, out);
+        Assert.assertEquals(user, JacksonUtil.readWithXml(new ByteArrayInputStream(out.toByteArray()), User.class));
+
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        int written = JacksonUtil.writeTo(user, buffer);
+        Assert.assertEquals(JacksonUtil.bean2Bytes(user).length, written);
+        JacksonUtil.writeTo(user, buffer);
+        buffer.flip();
+        Assert.assertEquals(user, JacksonUtil.read(buffer, User.class));
+        Assert.assertEquals(written, buffer.position());
+        Assert.assertEquals(user, JacksonUtil.read(buffer, User.class));
+        Assert.assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void testGenericTypes() {
+        List<User> users = Arrays.asList(user(), user());
+        String json = JacksonUtil.bean2String(users);
+        Assert.assertEquals(users, JacksonUtil.string2List(json, User.class));
+        Assert.assertArrayEquals(users.toArray(), JacksonUtil.string2Array(json, User.class));
+        Assert.assertEquals(users, JacksonUtil.string2Bean(json, new TypeReference<List<User>>() {
+        }));
+
+        Map<String, User> map = Collections.singletonMap("jack", user());
+        Assert.assertEquals(map, JacksonUtil.string2Map(JacksonUtil.bean2String(map), String.class, User.class));
+        Assert.assertEquals("null", JacksonUtil.bean2String(null));
+    }
+
+    @Test
+    public void testParametricType() {
+        Result<User, List<String>> result = new Result<>();
+        result.setData(user());
+        result.setExtra(Arrays.asList("a", "b"));
+        String json = JacksonUtil.bean2String(result);
+
+        Type listOfString = new TypeReference<List<String>>() {
+        }.getType();
+        Result<User, List<String>> actual = JacksonUtil.string2Bean(json, new Type[]{User.class, listOfString}, Result.class);
+        Assert.assertEquals(user(), actual.getData());
+        Assert.assertEquals(Arrays.asList("a", "b"), actual.getExtra());
+
+        Result<User, Integer> xmlResult = new Result<>();
+        xmlResult.setData(user());
+        xmlResult.setExtra(1);
+        Result<User, Integer> xmlActual = JacksonUtil.string2BeanWithXml(JacksonUtil.bean2StringWithXml(xmlResult),
+                new Type[]{User.class, Integer.class}, Result.class);
+        Assert.assertEquals(user(), xmlActual.getData());
+        Assert.assertEquals(Integer.valueOf(1), xmlActual.getExtra());
+    }
+
+    @Test
+    public void testStreamArray() throws IOException {
+        int size = 1000;
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"name\":\"u").append(i).append("\",\"age\":").append(i).append('}');
+        }
+        json.append(']');
+        byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+
+        Iterator<User> iterator = JacksonUtil.readArray(new ByteArrayInputStream(bytes), User.class);
+        int count = 0;
+        while (iterator.hasNext()) {
+            Assert.assertEquals(count++, iterator.next().getAge());
+        }
+        Assert.assertEquals(size, count);
+
+        Path file = Files.createTempFile("users", ".json");
+        try {
+            Files.write(file, bytes);
+            try (Stream<User> users = JacksonUtil.streamArray(file, User.class)) {
+                Assert.assertEquals(size * (size - 1) / 2, users.mapToInt(User::getAge).sum());
+            }
+        } finally {
+            Files.delete(file);
+        }
+        try {
+            JacksonUtil.streamArray(file, User.class);
+            Assert.fail();
+        } catch (UncheckedIOException e) {
+            Assert.assertTrue(e.getMessage().contains(file.toString()));
+        }
+    }
+
+    @Test
+    public void testReadFile() throws IOException {
+        User user = user();
+        Path jsonFile = Files.createTempFile("user", ".json");
+        Path xmlFile = Files.createTempFile("user", ".xml");
+        try {
+            Files.write(jsonFile, JacksonUtil.bean2Bytes(Collections.singletonList(user)));
+            Files.write(xmlFile, JacksonUtil.bean2BytesWithXml(user));
+            Assert.assertEquals(Collections.singletonList(user), JacksonUtil.readFile(jsonFile, new TypeReference<List<User>>() {
+            }));
+            Assert.assertEquals(user, JacksonUtil.readFileWithXml(xmlFile, User.class));
+            // 映射区域小于文件大小时跨区域读取
+            try (InputStream in = new MappedFileInputStream(xmlFile, 7)) {
+                Assert.assertEquals(user, JacksonUtil.readWithXml(in, User.class));
+            }
+        } finally {
+            Files.delete(jsonFile);
+            Files.delete(xmlFile);
+        }
+    }
+
+    @Test
+    public void testXmlElements() throws IOException {
+        StringBuilder xml = new StringBuilder("<statement><header><user><name>header</name></user></header><entries>");
+        for (int i = 0; i < 100; i++) {
+            xml.append("<user><age>").append(i).append("</age><name>u").append(i).append("</name></user>");
+        }
+        xml.append("</entries></statement>");
+        byte[] bytes = xml.toString().getBytes(StandardCharsets.UTF_8);
+
+        try (XmlElementIterator<User> iterator = JacksonUtil.readElementsWithXml(new ByteArrayInputStream(bytes), "user", User.class)) {
+            Assert.assertEquals("header", iterator.next().getName());
+            for (int i = 0; i < 100; i++) {
+                Assert.assertEquals(i, iterator.next().getAge());
+            }
+            Assert.assertFalse(iterator.hasNext());
+        }
+
+        Path file = Files.createTempFile("statement", ".xml");
+        try {
+            Files.write(file, bytes);
+            try (Stream<User> users = JacksonUtil.streamElementsWithXml(file, "user", User.class)) {
+                Assert.assertEquals(101, users.count());
+            }
+        } finally {
+            Files.delete(file);
+        }
+        try {
+            JacksonUtil.streamElementsWithXml(file, "user", User.class);
+            Assert.fail();
+        } catch (UncheckedIOException e) {
+            Assert.assertTrue(e.getMessage().contains(file.toString()));
+        }
+    }
+
+    @Test
+    public void testExtract() {
+        String json = "{\"body\":{\"items\":[{\"id\":1},{\"id\":2,\"tags\":[\"a\"]}]},"
+                + "\"header\":{\"traceId\":\"t-1\",\"route\":{\"zone\":\"cn\"}}}";
+        Map<String, JsonNode> values = JacksonUtil.extract(json, "$.header.traceId", "body.items[1].id", "header.route",
+                "header.route.zone", "header.missing");
+        Assert.assertEquals("t-1", values.get("$.header.traceId").asText());
+        Assert.assertEquals(2, values.get("body.items[1].id").asInt());
+        Assert.assertEquals("cn", values.get("header.route").get("zone").asText());
+        Assert.assertEquals("cn", values.get("header.route.zone").asText());
+        Assert.assertFalse(values.containsKey("header.missing"));
+
+        // 路径全部提取到后不再解析剩余内容
+        String truncated = "{\"header\":{\"traceId\":\"t-2\"},\"body\":{\"broken";
+        Assert.assertEquals("t-2", JacksonUtil.extract(truncated, "header.traceId").get("header.traceId").asText());
+    }
+
+    @Test
+    public void testWarmUp() {
+        Type listOfString = new TypeReference<List<String>>() {
+        }.getType();
+        WarmUpReport report = JacksonUtil.warmUp(Arrays.asList(User.class, listOfString, Object.class),
+                ForkJoinPool.commonPool());
+        Assert.assertEquals(Arrays.asList(User.class, listOfString, Object.class), report.getWarmed());
+        Assert.assertTrue(report.getFailed().isEmpty());
+
+        report = JacksonUtil.warmUpPackages(ForkJoinPool.commonPool(), "com.typhus.common.tools.jackson");
+        Assert.assertFalse(report.getWarmed().isEmpty());
+        // 没有无参构造器的class无法反序列化，记录在失败结果中
+        Assert.assertTrue(report.getFailed().containsKey(WarmUpReport.class));
+        Assert.assertTrue(report.getJsonFailed().containsKey(WarmUpReport.class));
+        Assert.assertTrue(report.getXmlFailed().containsKey(WarmUpReport.class));
+        Assert.assertTrue(report.toString().contains(WarmUpReport.class.getName() + " [json, xml]"));
+    }
+
+    @Test
+    public void testNdjson() {
+        int size = 20000;
+        List<User> users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            User user = new User();
+            user.setName("u" + i);
+            user.setAge(i);
+            users.add(user);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JacksonUtil.writeNdjson(users, out);
+        String ndjson = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        Assert.assertTrue(ndjson.startsWith("{\"age\":0,\"name\":\"u0\"}\n{\"age\":1,"));
+        Assert.assertTrue(ndjson.endsWith("}\n"));
+
+        Assert.assertEquals(users, JacksonUtil.readNdjson(new ByteArrayInputStream(out.toByteArray()), User.class));
+
+        AtomicInteger count = new AtomicInteger();
+        JacksonUtil.readNdjson(new ByteArrayInputStream((ndjson + "\r\n\n").getBytes(StandardCharsets.UTF_8)), User.class,
+                user -> count.incrementAndGet(), false, ForkJoinPool.commonPool());
+        Assert.assertEquals(size, count.get());
+    }
+
+    @Test
+    public void testAsyncReader() throws IOException {
+        byte[] json = "[{\"age\":1,\"name\":\"张三\"},{\"age\":2,\"name\":\"b\"},{\"age\":3}]"
+                .getBytes(StandardCharsets.UTF_8);
+        List<User> users = new ArrayList<>();
+        List<Integer> emittedAt = new ArrayList<>();
+        try (AsyncJsonReader<User> reader = JacksonUtil.asyncArrayReader(User.class)) {
+            // 逐字节喂入，中文字符也会被拆开
+            for (int i = 0; i < json.length; i++) {
+                int before = users.size();
+                reader.feed(ByteBuffer.wrap(json, i, 1), users::add);
+                if (users.size() > before) {
+                    emittedAt.add(i);
+                }
+            }
+            reader.end(users::add);
+        }
+        Assert.assertEquals(3, users.size());
+        Assert.assertEquals("张三", users.get(0).getName());
+        Assert.assertNull(users.get(2).getName());
+        // 每个元素在其右括号到达时交付
+        Assert.assertEquals(Arrays.asList(25, 46, 56), emittedAt);
+
+        try (AsyncJsonReader<User> reader = JacksonUtil.asyncReader(User.class)) {
+            Assert.assertEquals(1, reader.feed(ByteBuffer.wrap("{\"age\":1} {\"ag".getBytes(StandardCharsets.UTF_8))).size());
+            List<User> rest = reader.feed(ByteBuffer.wrap("e\":2}".getBytes(StandardCharsets.UTF_8)));
+            Assert.assertEquals(2, rest.get(0).getAge());
+            reader.feed(ByteBuffer.wrap("{".getBytes(StandardCharsets.UTF_8)));
+            reader.end(user -> Assert.fail());
+            Assert.fail();
+        } catch (IOException e) {
+            Assert.assertTrue(e.getMessage().contains("end"));
+        }
+    }
+
+    @Test
+    public void testCanonicalStrings() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"age\":").append(i).append(",\"name\":\"")
+                    .append(i % 2 == 0 ? "CNY" : "USD").append("\"}");
+        }
+        String jsonStr = json.append("]").toString();
+
+        StringCanonicalizer canonicalizer = new StringCanonicalizer(16);
+        List<User> users = JacksonUtil.string2List(jsonStr, User.class, canonicalizer);
+        Assert.assertEquals(100, users.size());
+        Assert.assertSame(users.get(0).getName(), users.get(98).getName());
+        Assert.assertSame(users.get(1).getName(), users.get(99).getName());
+        Assert.assertEquals(98, canonicalizer.getHits());
+        Assert.assertEquals(2, canonicalizer.getMisses());
+        Assert.assertEquals(0.98, canonicalizer.hitRate(), 1e-9);
+        Assert.assertEquals(Collections.singletonMap("k", "USD"), JacksonUtil.read(new ByteArrayInputStream(
+                "{\"k\":\"USD\"}".getBytes(StandardCharsets.UTF_8)), new TypeReference<Map<String, String>>() {
+        }, canonicalizer));
+        Assert.assertSame(users.get(1).getName(), canonicalizer.canonicalize(new String("USD")));
+
+        // 只对指定的属性、类型生效
+        StringCanonicalizer other = new StringCanonicalizer(16).forProperties("status");
+        users = JacksonUtil.string2List(jsonStr, User.class, other);
+        Assert.assertNotSame(users.get(0).getName(), users.get(98).getName());
+        Assert.assertEquals(0, other.getHits() + other.getMisses());
+        StringCanonicalizer typed = new StringCanonicalizer(16).forTypes(User.class).forProperties("name");
+        users = JacksonUtil.string2List(jsonStr, User.class, typed);
+        Assert.assertSame(users.get(0).getName(), users.get(98).getName());
+        Assert.assertEquals("CNY", JacksonUtil.string2Bean("{\"name\":\"CNY\"}", User.class, typed).getName());
+        Assert.assertEquals(99, typed.getHits());
+    }
+
+    @Test
+    public void testDigest() throws Exception {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            User user = new User();
+            user.setName(i % 3 == 0 ? null : "用户-" + i);
+            user.setAge(i);
+            users.add(user);
+        }
+        byte[] json = JacksonUtil.bean2String(users).getBytes(StandardCharsets.UTF_8);
+        Assert.assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(json), JacksonUtil.digest(users, "SHA-256"));
+
+        MessageDigest md5 = MessageDigest.getInstance("MD5");
+        byte[] expected = md5.digest(json);
+        Assert.assertArrayEquals(expected, JacksonUtil.digest(users, md5));
+        // 复用同一个MessageDigest
+        Assert.assertArrayEquals(expected, JacksonUtil.digest(users, md5));
+
+        CRC32 crc32 = new CRC32();
+        crc32.update(json, 0, json.length);
+        long crc = crc32.getValue();
+        Assert.assertEquals(crc, JacksonUtil.checksum(users, crc32));
+        Assert.assertEquals(crc, JacksonUtil.checksum(users, new CRC32()));
+    }
+
+    @Test
+    public void testGeneratedCodec() {
+        Assert.assertNotNull(GeneratedJsonCodecs.find(Order.class));
+        Assert.assertNull(GeneratedJsonCodecs.find(PlainOrder.class));
+
+        // PlainOrder没有生成codec，使用jackson默认的BeanSerializer，输出必须逐字节一致
+        for (int i = 0; i < 2; i++) {
+            Order order = new Order();
+            PlainOrder plain = new PlainOrder();
+            if (i == 0) {
+                for (Order o : Arrays.asList(order, plain)) {
+                    User user = new User();
+                    user.setName("张\"三\n");
+                    o.setStatus("PAID");
+                    o.setCount(3);
+                    o.setId(Long.MAX_VALUE);
+                    o.setPaid(true);
+                    o.setAmount(12.5);
+                    o.setRate(0.1f);
+                    o.setLevel((byte) -1);
+                    o.setGrade('A');
+                    o.setPrice(new BigDecimal("1.10"));
+                    o.setItems(Collections.singletonList(user));
+                    o.setCreated(new Date(0));
+                    o.setTags(Collections.singletonMap("k", 1));
+                    o.setEnable(EnableEnum.YES);
+                    o.setURL("http://a");
+                }
+            }
+            String json = JacksonUtil.bean2String(order);
+            Assert.assertEquals(JacksonUtil.bean2String(plain), json);
+            Assert.assertEquals(json, JacksonUtil.bean2String(JacksonUtil.string2Bean(json, Order.class)));
+            Assert.assertEquals(json, JacksonUtil.bean2String(JacksonUtil.string2Bean(json, PlainOrder.class)));
+        }
+        String json = JacksonUtil.bean2String(Collections.singletonList(JacksonUtil.string2Bean(
+                "{\"count\":\"7\",\"paid\":null,\"amount\":null,\"unknown\":{\"a\":[1]},\"url\":\"u\",\"id\":1.0}",
+                Order.class)));
+        Assert.assertEquals("[{\"count\":7,\"grade\":\"\\u0000\",\"id\":1,\"level\":0,\"paid\":false,\"url\":\"u\"}]", json);
+        Assert.assertNull(JacksonUtil.string2Bean("[]", Order.class));
+    }
+
+    public static class Result<R, T> {
+
+        private R data;
+
+        private T extra;
+
+        public R getData() {
+            return data;
+        }
+
+        public void setData(R data) {
+            this.data = data;
+        }
+
+        public T getExtra() {
+            return extra;
+        }
+
+        public void setExtra(T extra) {
+            this.extra = extra;
+        }
+    }
+
+    public static class User {
+
+        private String name;
+
+        private int age;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof User)) {
+                return false;
+            }
+            User other = (User) o;
+            return age == other.age && Objects.equals(name, other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, age);
+        }
+    }
+
+    @GenerateJsonCodec
+    public static class Order {
+
+        private String status;
+
+        private int count;
+
+        private long id;
+
+        private boolean paid;
+
+        private Double amount;
+
+        private Float rate;
+
+        private byte level;
+
+        private char grade;
+
+        private BigDecimal price;
+
+        private List<User> items;
+
+        private Date created;
+
+        private Map<String, Integer> tags;
+
+        private EnableEnum enable;
+
+        private String url;
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public boolean isPaid() {
+            return paid;
+        }
+
+        public void setPaid(boolean paid) {
+            this.paid = paid;
+        }
+
+        public Double getAmount() {
+            return amount;
+        }
+
+        public void setAmount(Double amount) {
+            this.amount = amount;
+        }
+
+        public Float getRate() {
+            return rate;
+        }
+
+        public void setRate(Float rate) {
+            this.rate = rate;
+        }
+
+        public byte getLevel() {
+            return level;
+        }
+
+        public void setLevel(byte level) {
+            this.level = level;
+        }
+
+        public char getGrade() {
+            return grade;
+        }
+
+        public void setGrade(char grade) {
+            this.grade = grade;
+        }
+
+        public BigDecimal getPrice() {
+            return price;
+        }
+
+        public void setPrice(BigDecimal price) {
+            this.price = price;
+        }
+
+        public List<User> getItems() {
+            return items;
+        }
+
+        public void setItems(List<User> items) {
+            this.items = items;
+        }
+
+        public Date getCreated() {
+            return created;
+        }
+
+        public void setCreated(Date created) {
+            this.created = created;
+        }
+
+        public Map<String, Integer> getTags() {
+            return tags;
+        }
+
+        public void setTags(Map<String, Integer> tags) {
+            this.tags = tags;
+        }
+
+        public EnableEnum getEnable() {
+            return enable;
+        }
+
+        public void setEnable(EnableEnum enable) {
+            this.enable = enable;
+        }
+
+        public String getURL() {
+            return url;
+        }
+
+        public void setURL(String url) {
+            this.url = url;
+        }
+    }
+
+    public static class PlainOrder extends Order {
+    }
+}
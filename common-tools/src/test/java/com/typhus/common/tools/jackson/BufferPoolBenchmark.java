@@ -0,0 +1,101 @@
+package com.typhus.common.tools.jackson;
+
+import com.typhus.common.tools.JacksonUtil;
+import com.typhus.common.tools.JacksonUtilTest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ThreadLocal回收与全局BufferRecycler池在平台线程、虚拟线程下的吞吐量和分配量对比，手动运行main方法，不参与单元测试<br/>
+ * <p1>参数：[任务数，默认200000]。虚拟线程需要JDK21及以上，低版本跳过。
+ * 分配量为所有存活线程（含虚拟线程的carrier线程）分配字节数之和的差值，JVM不支持线程分配统计时输出-1。
+ * </p1>
+ *
+ * @author typhus-xxj
+ * @version BufferPoolBenchmark.java, v 0.1 2026年10月18日 23:55 typhus-xxj Exp $
+ */
+public class BufferPoolBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int tasks = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        List<JacksonUtilTest.User> payload = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            JacksonUtilTest.User user = new JacksonUtilTest.User();
+            user.setName("user-" + i);
+            user.setAge(i);
+            payload.add(user);
+        }
+        for (int round = 0; round < 2; round++) {
+            // 第一轮为预热
+            System.out.println(round == 0 ? "warm-up" : "result");
+            for (boolean pooled : new boolean[]{false, true}) {
+                JacksonUtil.setGlobalBufferPool(pooled);
+                String mode = pooled ? "global pool " : "thread local";
+                run(mode + " / platform", Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()),
+                        payload, tasks);
+                ExecutorService virtual = newVirtualThreadPerTaskExecutor();
+                if (virtual == null) {
+                    System.out.println(mode + " / virtual   : skipped, virtual threads require JDK 21+");
+                } else {
+                    run(mode + " / virtual", virtual, payload, tasks);
+                }
+            }
+        }
+        JacksonUtil.setGlobalBufferPool(false);
+    }
+
+    private static void run(String name, ExecutorService executor, Object payload, int tasks) throws Exception {
+        try {
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>(tasks);
+            for (int i = 0; i < tasks; i++) {
+                futures.add(executor.submit(() -> JacksonUtil.bean2Bytes(payload)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long elapsed = System.nanoTime() - start;
+            long allocatedAfter = allocatedBytes();
+            long allocated = allocatedBefore < 0 ? -1 : (allocatedAfter - allocatedBefore) / tasks;
+            System.out.printf("%-26s %12.0f ops/s %10d bytes/op allocated%n", name, tasks / (elapsed / 1e9), allocated);
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * 通过反射创建虚拟线程executor，保持源码在JDK8下可编译
+     *
+     * @return executor，JDK不支持虚拟线程时返回null
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        long total = 0;
+        for (long allocated : ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            if (allocated > 0) {
+                total += allocated;
+            }
+        }
+        return total;
+    }
+}
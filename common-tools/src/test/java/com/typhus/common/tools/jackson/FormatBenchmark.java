@@ -0,0 +1,79 @@
+package com.typhus.common.tools.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.typhus.common.tools.JacksonUtil;
+import com.typhus.common.tools.JacksonUtilTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * json/xml/smile/cbor的报文大小和编解码耗时对比，手动运行main方法，不参与单元测试<br/>
+ * <p1>参数：[元素数量，默认10000] [迭代次数，默认50]。</p1>
+ *
+ * @author typhus-xxj
+ * @version FormatBenchmark.java, v 0.1 2026年10月18日 22:30 typhus-xxj Exp $
+ */
+public class FormatBenchmark {
+
+    private static final TypeReference<List<JacksonUtilTest.User>> USERS = new TypeReference<List<JacksonUtilTest.User>>() {
+    };
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+        List<JacksonUtilTest.User> users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            JacksonUtilTest.User user = new JacksonUtilTest.User();
+            user.setName("user-" + i);
+            user.setAge(i % 100);
+            users.add(user);
+        }
+        Wrapper wrapper = new Wrapper();
+        wrapper.setUsers(users);
+        for (int round = 0; round < 2; round++) {
+            // 第一轮为预热
+            System.out.println(round == 0 ? "warm-up" : "result");
+            run("json", users, JacksonUtil::bean2Bytes, bytes -> JacksonUtil.bytes2Bean(bytes, USERS), iterations);
+            run("xml", wrapper, JacksonUtil::bean2BytesWithXml, bytes -> JacksonUtil.bytes2BeanWithXml(bytes, Wrapper.class), iterations);
+            run("smile", users, JacksonUtil::bean2BytesWithSmile, bytes -> JacksonUtil.bytes2BeanWithSmile(bytes, USERS), iterations);
+            run("cbor", users, JacksonUtil::bean2BytesWithCbor, bytes -> JacksonUtil.bytes2BeanWithCbor(bytes, USERS), iterations);
+        }
+    }
+
+    private static void run(String name, Object value, Function<Object, byte[]> encoder, Function<byte[], Object> decoder,
+                            int iterations) {
+        byte[] bytes = encoder.apply(value);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            bytes = encoder.apply(value);
+        }
+        long encode = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            if (decoder.apply(bytes) == null) {
+                throw new IllegalStateException();
+            }
+        }
+        long decode = System.nanoTime() - start;
+        System.out.printf("%-6s %10d bytes %10.2f ms/encode %10.2f ms/decode%n", name, bytes.length,
+                encode / 1e6 / iterations, decode / 1e6 / iterations);
+    }
+
+    /**
+     * xml根节点不能是数组，使用包装对象
+     */
+    public static class Wrapper {
+
+        private List<JacksonUtilTest.User> users;
+
+        public List<JacksonUtilTest.User> getUsers() {
+            return users;
+        }
+
+        public void setUsers(List<JacksonUtilTest.User> users) {
+            this.users = users;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.typhus.common.tools.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.typhus.common.tools.JacksonUtil;
+import com.typhus.common.tools.JacksonUtilTest;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 内存映射读取与Files.readAllBytes + string2Bean的对比，手动运行main方法，不参与单元测试<br/>
+ * <p1>参数：[元素数量，默认200000] [迭代次数，默认20]。
+ * 输出每次读取的平均耗时和当前线程的平均分配字节数（JVM支持线程分配统计时）。
+ * </p1>
+ *
+ * @author typhus-xxj
+ * @version MappedFileBenchmark.java, v 0.1 2026年10月18日 21:40 typhus-xxj Exp $
+ */
+public class MappedFileBenchmark {
+
+    private static final TypeReference<List<JacksonUtilTest.User>> USERS = new TypeReference<List<JacksonUtilTest.User>>() {
+    };
+
+    public static void main(String[] args) throws IOException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        List<JacksonUtilTest.User> users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            JacksonUtilTest.User user = new JacksonUtilTest.User();
+            user.setName("user-" + i);
+            user.setAge(i % 100);
+            users.add(user);
+        }
+        Path file = Files.createTempFile("mapped-benchmark", ".json");
+        try {
+            Files.write(file, JacksonUtil.bean2Bytes(users));
+            System.out.printf("file size: %d bytes, %d elements%n", Files.size(file), size);
+            Supplier<Object> readAllBytes = () -> {
+                try {
+                    return JacksonUtil.string2Bean(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), USERS);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            };
+            Supplier<Object> mapped = () -> JacksonUtil.readFile(file, USERS);
+            // 预热
+            run("warm-up readAllBytes", readAllBytes, iterations);
+            run("warm-up readFile", mapped, iterations);
+            run("readAllBytes + string2Bean", readAllBytes, iterations);
+            run("readFile (mapped)", mapped, iterations);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static void run(String name, Supplier<Object> task, int iterations) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocation = threads instanceof com.sun.management.ThreadMXBean
+                ? (com.sun.management.ThreadMXBean) threads : null;
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = allocation == null ? 0 : allocation.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            if (task.get() == null) {
+                throw new IllegalStateException();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = allocation == null ? -1 : (allocation.getThreadAllocatedBytes(threadId) - allocatedBefore) / iterations;
+        System.out.printf("%-30s %10.2f ms/op %15d bytes/op allocated%n", name, elapsed / 1e6 / iterations, allocated);
+    }
+}